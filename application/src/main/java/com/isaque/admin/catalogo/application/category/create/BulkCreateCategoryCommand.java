@@ -0,0 +1,11 @@
+package com.isaque.admin.catalogo.application.category.create;
+
+import java.util.List;
+
+public record BulkCreateCategoryCommand(
+        List<CreateCategoryCommand> items
+) {
+    public static BulkCreateCategoryCommand with(final List<CreateCategoryCommand> items) {
+        return new BulkCreateCategoryCommand(items);
+    }
+}
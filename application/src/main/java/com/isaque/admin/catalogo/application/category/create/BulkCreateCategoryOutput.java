@@ -0,0 +1,33 @@
+package com.isaque.admin.catalogo.application.category.create;
+
+import com.isaque.admin.catalogo.domain.validation.Error;
+
+import java.util.List;
+
+public record BulkCreateCategoryOutput(
+        int created,
+        int failed,
+        List<Item> items
+) {
+    public static BulkCreateCategoryOutput from(final List<Item> items) {
+        final var created = (int) items.stream().filter(item -> item.id() != null).count();
+        return new BulkCreateCategoryOutput(created, items.size() - created, items);
+    }
+
+    /**
+     * Result of one command, at the same {@code index} it had in the request.
+     */
+    public record Item(
+            int index,
+            String id,
+            List<Error> errors
+    ) {
+        public static Item created(final int index, final String id) {
+            return new Item(index, id, List.of());
+        }
+
+        public static Item failed(final int index, final List<Error> errors) {
+            return new Item(index, null, errors);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.isaque.admin.catalogo.application.category.create;
+
+import com.isaque.admin.catalogo.application.UseCase;
+
+public abstract class BulkCreateCategoryUseCase extends UseCase<BulkCreateCategoryCommand, BulkCreateCategoryOutput> {
+}
@@ -0,0 +1,73 @@
+package com.isaque.admin.catalogo.application.category.create;
+
+import com.isaque.admin.catalogo.domain.category.Category;
+import com.isaque.admin.catalogo.domain.category.CategoryGateway;
+import com.isaque.admin.catalogo.domain.validation.handler.Notification;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import static io.vavr.API.Try;
+
+/**
+ * Validates every command on its own and persists the valid ones with a single gateway call,
+ * so one bad item does not reject the whole batch.
+ */
+public class DefaultBulkCreateCategoryUseCase extends BulkCreateCategoryUseCase {
+    private final CategoryGateway categoryGateway;
+
+    public DefaultBulkCreateCategoryUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public BulkCreateCategoryOutput execute(final BulkCreateCategoryCommand command) {
+        final var commands = command.items();
+        final var results = new BulkCreateCategoryOutput.Item[commands.size()];
+        final var indexes = new ArrayList<Integer>(commands.size());
+        final var categories = new ArrayList<Category>(commands.size());
+
+        for (int i = 0; i < commands.size(); i++) {
+            final var item = commands.get(i);
+            final var notification = Notification.create();
+
+            final var category = Category.newCategory(item.name(), item.description(), item.isActive());
+            category.validate(notification);
+
+            if (notification.hasError()) {
+                results[i] = BulkCreateCategoryOutput.Item.failed(i, notification.getErrors());
+            } else {
+                indexes.add(i);
+                categories.add(category);
+            }
+        }
+
+        createAll(categories, indexes, results);
+
+        return BulkCreateCategoryOutput.from(Arrays.asList(results));
+    }
+
+    private void createAll(
+            final List<Category> categories,
+            final List<Integer> indexes,
+            final BulkCreateCategoryOutput.Item[] results
+    ) {
+        if (categories.isEmpty()) {
+            return;
+        }
+
+        Try(() -> this.categoryGateway.createAll(categories))
+                .onSuccess(created -> {
+                    for (int i = 0; i < indexes.size(); i++) {
+                        final var index = indexes.get(i);
+                        results[index] = BulkCreateCategoryOutput.Item.created(index, created.get(i).getId().getValue());
+                    }
+                })
+                .onFailure(t -> {
+                    final var errors = Notification.create(t).getErrors();
+                    indexes.forEach(index -> results[index] = BulkCreateCategoryOutput.Item.failed(index, errors));
+                });
+    }
+}
@@ -0,0 +1,23 @@
+package com.isaque.admin.catalogo.application.category.retrive.export;
+
+import com.isaque.admin.catalogo.application.category.retrive.get.CategoryOutput;
+import com.isaque.admin.catalogo.domain.category.CategoryGateway;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Pushes every category to the consumer as it is read, without collecting them first.
+ */
+public class DefaultExportCategoriesUseCase extends ExportCategoriesUseCase {
+    private final CategoryGateway categoryGateway;
+
+    public DefaultExportCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public void execute(final Consumer<CategoryOutput> consumer) {
+        this.categoryGateway.forEach(category -> consumer.accept(CategoryOutput.from(category)));
+    }
+}
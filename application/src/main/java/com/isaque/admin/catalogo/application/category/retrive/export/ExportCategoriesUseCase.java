@@ -0,0 +1,9 @@
+package com.isaque.admin.catalogo.application.category.retrive.export;
+
+import com.isaque.admin.catalogo.application.UnitUseCase;
+import com.isaque.admin.catalogo.application.category.retrive.get.CategoryOutput;
+
+import java.util.function.Consumer;
+
+public abstract class ExportCategoriesUseCase extends UnitUseCase<Consumer<CategoryOutput>> {
+}
@@ -0,0 +1,12 @@
+package com.isaque.admin.catalogo.application.category.retrive.get;
+
+import java.util.List;
+
+/**
+ * {@code items} follow the order the ids were asked in; {@code missing} lists the ids not found.
+ */
+public record CategoriesByIdsOutput(
+        List<CategoryOutput> items,
+        List<String> missing
+) {
+}
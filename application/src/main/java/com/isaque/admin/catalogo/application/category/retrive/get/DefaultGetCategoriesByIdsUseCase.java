@@ -0,0 +1,57 @@
+package com.isaque.admin.catalogo.application.category.retrive.get;
+
+import com.isaque.admin.catalogo.domain.category.Category;
+import com.isaque.admin.catalogo.domain.category.CategoryGateway;
+import com.isaque.admin.catalogo.domain.category.CategoryID;
+import com.isaque.admin.catalogo.domain.exceptions.DomainException;
+import com.isaque.admin.catalogo.domain.validation.Error;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class DefaultGetCategoriesByIdsUseCase extends GetCategoriesByIdsUseCase {
+    public static final int MAX_IDS = 10_000;
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultGetCategoriesByIdsUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    /**
+     * Resolves all ids with one gateway call, then lays the result out in request order. Repeated
+     * ids are answered once.
+     */
+    @Override
+    public CategoriesByIdsOutput execute(final List<String> input) {
+        final var ids = new LinkedHashSet<CategoryID>();
+        if (input != null) {
+            input.stream().filter(Objects::nonNull).map(CategoryID::from).forEach(ids::add);
+        }
+        if (ids.size() > MAX_IDS) {
+            throw DomainException.with(new Error("'ids' must have at most %d items".formatted(MAX_IDS)));
+        }
+        if (ids.isEmpty()) {
+            return new CategoriesByIdsOutput(List.of(), List.of());
+        }
+
+        final var found = this.categoryGateway.findAllByIds(ids).stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity()));
+
+        final var items = new ArrayList<CategoryOutput>(found.size());
+        final var missing = new ArrayList<String>();
+        for (final var id : ids) {
+            final var category = found.get(id);
+            if (category != null) {
+                items.add(CategoryOutput.from(category));
+            } else {
+                missing.add(id.getValue());
+            }
+        }
+        return new CategoriesByIdsOutput(items, missing);
+    }
+}
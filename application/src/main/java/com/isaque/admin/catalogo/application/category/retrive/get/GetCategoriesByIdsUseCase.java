@@ -0,0 +1,8 @@
+package com.isaque.admin.catalogo.application.category.retrive.get;
+
+import com.isaque.admin.catalogo.application.UseCase;
+
+import java.util.List;
+
+public abstract class GetCategoriesByIdsUseCase extends UseCase<List<String>, CategoriesByIdsOutput> {
+}
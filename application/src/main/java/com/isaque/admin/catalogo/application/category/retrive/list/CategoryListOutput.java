@@ -2,6 +2,7 @@ package com.isaque.admin.catalogo.application.category.retrive.list;
 
 import com.isaque.admin.catalogo.domain.category.Category;
 import com.isaque.admin.catalogo.domain.category.CategoryID;
+import com.isaque.admin.catalogo.domain.category.CategoryView;
 
 import java.time.Instant;
 
@@ -11,6 +12,7 @@ public record CategoryListOutput(
         String description,
         boolean isActive,
         Instant createdAt,
+        Instant updatedAt,
         Instant deletedAt
 ) {
     public static CategoryListOutput from(final Category category) {
@@ -20,7 +22,20 @@ public record CategoryListOutput(
                 category.getDescription(),
                 category.isActive(),
                 category.getCreatedAt(),
+                category.getUpdatedAt(),
                 category.getDeletedAt()
         );
     }
+
+    public static CategoryListOutput from(final CategoryView view) {
+        return new CategoryListOutput(
+                view.id(),
+                view.name(),
+                view.description(),
+                view.active(),
+                view.createdAt(),
+                view.updatedAt(),
+                view.deletedAt()
+        );
+    }
 }
@@ -1,20 +1,32 @@
 package com.isaque.admin.catalogo.application.category.retrive.list;
 
-import com.isaque.admin.catalogo.domain.category.CategoryGateway;
+import com.isaque.admin.catalogo.domain.category.CategorySearchIndex;
+import com.isaque.admin.catalogo.domain.category.CategoryViewGateway;
 import com.isaque.admin.catalogo.domain.pagination.Pagination;
 import com.isaque.admin.catalogo.domain.pagination.SearchQuery;
 
 import java.util.Objects;
 
 public class DefaultListCategoriesUseCase extends ListCategoriesUseCase {
-    private final CategoryGateway categoryGateway;
+    private final CategoryViewGateway categoryViewGateway;
+    private final CategorySearchIndex categorySearchIndex;
 
-    public DefaultListCategoriesUseCase(CategoryGateway categoryGateway) {
-        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    public DefaultListCategoriesUseCase(
+            final CategoryViewGateway categoryViewGateway,
+            final CategorySearchIndex categorySearchIndex
+    ) {
+        this.categoryViewGateway = Objects.requireNonNull(categoryViewGateway);
+        this.categorySearchIndex = Objects.requireNonNull(categorySearchIndex);
     }
 
     @Override
     public Pagination<CategoryListOutput> execute(final SearchQuery input) {
-        return this.categoryGateway.findAll(input).map(CategoryListOutput::from);
+        if (input.terms() != null && !input.terms().isBlank()) {
+            final var indexed = this.categorySearchIndex.search(input);
+            if (indexed.isPresent()) {
+                return indexed.get().map(CategoryListOutput::from);
+            }
+        }
+        return this.categoryViewGateway.findAll(input).map(CategoryListOutput::from);
     }
 }
@@ -3,8 +3,10 @@ package com.isaque.admin.catalogo.application.category.update;
 import com.isaque.admin.catalogo.domain.category.Category;
 import com.isaque.admin.catalogo.domain.category.CategoryGateway;
 import com.isaque.admin.catalogo.domain.category.CategoryID;
+import com.isaque.admin.catalogo.domain.exceptions.ConflictException;
 import com.isaque.admin.catalogo.domain.exceptions.DomainException;
 import com.isaque.admin.catalogo.domain.exceptions.NotFoundException;
+import com.isaque.admin.catalogo.domain.exceptions.PreconditionFailedException;
 import com.isaque.admin.catalogo.domain.validation.handler.Notification;
 import io.vavr.API;
 import io.vavr.control.Either;
@@ -36,11 +38,23 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
 
         category.update(name, description, isActive).validate(notification);
 
-        return notification.hasError() ? API.Left(notification) : update(category);
+        return notification.hasError() ? API.Left(notification) : update(category, input.version());
     }
 
-    private Either<Notification, UpdateCategoryOutput> update(final Category category) {
-        return API.Try(() -> this.categoryGateway.update(category))
+    /**
+     * An expected version is checked by the gateway against the stored row, not against the
+     * category read above, which may be a stale cached copy.
+     */
+    private Either<Notification, UpdateCategoryOutput> update(final Category category, final Long expectedVersion) {
+        return API.Try(() -> expectedVersion == null
+                        ? this.categoryGateway.update(category)
+                        : this.categoryGateway.update(category, expectedVersion))
+                .onFailure(ConflictException.class, conflict -> {
+                    throw conflict;
+                })
+                .onFailure(PreconditionFailedException.class, failed -> {
+                    throw failed;
+                })
                 .toEither()
                 .bimap(Notification::create, UpdateCategoryOutput::from);
     }
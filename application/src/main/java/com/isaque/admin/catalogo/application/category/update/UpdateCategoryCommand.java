@@ -1,12 +1,26 @@
 package com.isaque.admin.catalogo.application.category.update;
 
+/**
+ * @param version the version the change is based on, or {@code null} to update whatever is stored
+ */
 public record UpdateCategoryCommand(
         String id,
         String name,
         String description,
-        boolean isActive
+        boolean isActive,
+        Long version
 ) {
     public static UpdateCategoryCommand with(String id, String name, String description, boolean isActive) {
-        return new UpdateCategoryCommand(id, name, description, isActive);
+        return with(id, name, description, isActive, null);
+    }
+
+    public static UpdateCategoryCommand with(
+            String id,
+            String name,
+            String description,
+            boolean isActive,
+            Long version
+    ) {
+        return new UpdateCategoryCommand(id, name, description, isActive, version);
     }
 }
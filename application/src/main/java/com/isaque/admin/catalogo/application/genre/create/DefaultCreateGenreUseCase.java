@@ -9,7 +9,7 @@ import com.isaque.admin.catalogo.domain.validation.Error;
 import com.isaque.admin.catalogo.domain.validation.ValidationHandler;
 import com.isaque.admin.catalogo.domain.validation.handler.Notification;
 
-import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -55,16 +55,15 @@ public class DefaultCreateGenreUseCase extends CreateGenreUseCase {
       return notification;
     }
 
-    final var retrievedIds = categoryGateway.existsByIds(ids);
+    final var retrievedIds = new HashSet<>(categoryGateway.existsByIds(ids));
 
-    if (ids.size() != retrievedIds.size()) {
-      final var missingIds = new ArrayList<>(ids);
-      missingIds.removeAll(retrievedIds);
-
-      final var missingIdsMessage = missingIds.stream()
-          .map(CategoryID::getValue)
-          .collect(Collectors.joining(", "));
+    final var missingIdsMessage = ids.stream()
+        .filter(id -> !retrievedIds.contains(id))
+        .distinct()
+        .map(CategoryID::getValue)
+        .collect(Collectors.joining(", "));
 
+    if (!missingIdsMessage.isEmpty()) {
       notification.append(
           new Error("Some categories could not be found: %s".formatted(missingIdsMessage))
       );
@@ -13,7 +13,8 @@ public record GenreOutput(
     List<String> categories,
     Instant createdAt,
     Instant updatedAt,
-    Instant deletedAt
+    Instant deletedAt,
+    Long version
 ) {
   public static GenreOutput from(final Genre genre) {
     return new GenreOutput(
@@ -23,7 +24,8 @@ public record GenreOutput(
         genre.getCategories().stream().map(CategoryID::getValue).toList(),
         genre.getCreatedAt(),
         genre.getUpdatedAt(),
-        genre.getDeletedAt()
+        genre.getDeletedAt(),
+        genre.getVersion()
     );
   }
 }
@@ -1,20 +1,23 @@
 package com.isaque.admin.catalogo.application.genre.retrieve.list;
 
-import com.isaque.admin.catalogo.domain.genre.GenreGateway;
+import com.isaque.admin.catalogo.domain.genre.GenreViewGateway;
 import com.isaque.admin.catalogo.domain.pagination.Pagination;
 import com.isaque.admin.catalogo.domain.pagination.SearchQuery;
 
 import java.util.Objects;
 
+/**
+ * Served from the genre read model, which already carries the category names.
+ */
 public class DefaultListGenreUseCase extends ListGenreUseCase {
-  private final GenreGateway genreGateway;
+  private final GenreViewGateway genreViewGateway;
 
-  public DefaultListGenreUseCase(final GenreGateway genreGateway) {
-    this.genreGateway = Objects.requireNonNull(genreGateway);
+  public DefaultListGenreUseCase(final GenreViewGateway genreViewGateway) {
+    this.genreViewGateway = Objects.requireNonNull(genreViewGateway);
   }
 
   @Override
   public Pagination<GenreListOutput> execute(final SearchQuery query) {
-    return this.genreGateway.findAll(query).map(GenreListOutput::from);
+    return this.genreViewGateway.findAll(query).map(GenreListOutput::from);
   }
 }
@@ -1,24 +1,32 @@
 package com.isaque.admin.catalogo.application.genre.retrieve.list;
 
-import com.isaque.admin.catalogo.domain.category.CategoryID;
-import com.isaque.admin.catalogo.domain.genre.Genre;
+import com.isaque.admin.catalogo.domain.genre.GenreView;
 
 import java.time.Instant;
 import java.util.List;
 
 public record GenreListOutput(
+    String id,
     String name,
     boolean isActive,
     List<String> categories,
+    List<CategoryName> categoryNames,
     Instant createdAt,
+    Instant updatedAt,
     Instant deletedAt
 ) {
-  public static GenreListOutput from(final Genre genre) {
+  public record CategoryName(String id, String name) {
+  }
+
+  public static GenreListOutput from(final GenreView genre) {
     return new GenreListOutput(
-        genre.getName(),
-        genre.isActive(),
-        genre.getCategories().stream().map(CategoryID::getValue).toList(),
-        genre.getCreatedAt(),
-        genre.getDeletedAt());
+        genre.id().getValue(),
+        genre.name(),
+        genre.active(),
+        genre.categories().stream().map(GenreView.CategoryRef::id).toList(),
+        genre.categories().stream().map(it -> new CategoryName(it.id(), it.name())).toList(),
+        genre.createdAt(),
+        genre.updatedAt(),
+        genre.deletedAt());
   }
 }
@@ -13,7 +13,7 @@ import com.isaque.admin.catalogo.domain.validation.Error;
 import com.isaque.admin.catalogo.domain.validation.ValidationHandler;
 import com.isaque.admin.catalogo.domain.validation.handler.Notification;
 
-import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Supplier;
@@ -47,7 +47,11 @@ public class DefaultUpdateGenreUseCase extends UpdateGenreUseCase {
       throw new NotificationException("Could not update aggregate genre %s".formatted(command.id()), notification);
     }
 
-    return UpdateGenreOutput.from(genreGateway.update(genre));
+    // an expected version is checked against the stored row: the genre above may be a cached copy
+    final var updated = command.version() == null
+        ? this.genreGateway.update(genre)
+        : this.genreGateway.update(genre, command.version());
+    return UpdateGenreOutput.from(updated);
   }
 
   private ValidationHandler validateCategories(final List<CategoryID> ids) {
@@ -57,16 +61,15 @@ public class DefaultUpdateGenreUseCase extends UpdateGenreUseCase {
       return notification;
     }
 
-    final var retrievedIds = categoryGateway.existsByIds(ids);
+    final var retrievedIds = new HashSet<>(categoryGateway.existsByIds(ids));
 
-    if (ids.size() != retrievedIds.size()) {
-      final var missingIds = new ArrayList<>(ids);
-      missingIds.removeAll(retrievedIds);
-
-      final var missingIdsMessage = missingIds.stream()
-          .map(CategoryID::getValue)
-          .collect(Collectors.joining(", "));
+    final var missingIdsMessage = ids.stream()
+        .filter(id -> !retrievedIds.contains(id))
+        .distinct()
+        .map(CategoryID::getValue)
+        .collect(Collectors.joining(", "));
 
+    if (!missingIdsMessage.isEmpty()) {
       notification.append(
           new Error("Some categories could not be found: %s".formatted(missingIdsMessage))
       );
@@ -2,11 +2,15 @@ package com.isaque.admin.catalogo.application.genre.update;
 
 import java.util.List;
 
+/**
+ * @param version the version the change is based on, or {@code null} to update whatever is stored
+ */
 public record UpdateGenreCommand(
     String id,
     String name,
     boolean isActive,
-    List<String> categories
+    List<String> categories,
+    Long version
 ) {
 
   public static UpdateGenreCommand with(
@@ -15,6 +19,16 @@ public record UpdateGenreCommand(
       final Boolean isActive,
       final List<String> categories
   ) {
-    return new UpdateGenreCommand(id, name, isActive != null ? isActive : Boolean.TRUE, categories);
+    return with(id, name, isActive, categories, null);
+  }
+
+  public static UpdateGenreCommand with(
+      final String id,
+      final String name,
+      final Boolean isActive,
+      final List<String> categories,
+      final Long version
+  ) {
+    return new UpdateGenreCommand(id, name, isActive != null ? isActive : Boolean.TRUE, categories, version);
   }
 }
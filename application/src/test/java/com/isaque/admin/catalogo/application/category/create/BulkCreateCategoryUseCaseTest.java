@@ -0,0 +1,88 @@
+package com.isaque.admin.catalogo.application.category.create;
+
+import com.isaque.admin.catalogo.application.UseCaseTest;
+import com.isaque.admin.catalogo.domain.category.CategoryGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+public class BulkCreateCategoryUseCaseTest extends UseCaseTest {
+  @InjectMocks
+  private DefaultBulkCreateCategoryUseCase useCase;
+
+  @Mock
+  private CategoryGateway categoryGateway;
+
+  @Override
+  protected List<Object> getMocks() {
+    return List.of(categoryGateway);
+  }
+
+  @Test
+  void givenValidAndInvalidCommands_whenCallsBulkCreate_thenShouldCreateValidOnesInOneCall() {
+    // given
+    final var expectedErrorMessage = "'name' must not be null";
+    final var command = BulkCreateCategoryCommand.with(List.of(
+        CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true),
+        CreateCategoryCommand.with(null, "Sem nome", true),
+        CreateCategoryCommand.with("Séries", null, false)
+    ));
+
+    Mockito.when(categoryGateway.createAll(Mockito.any())).thenAnswer(AdditionalAnswers.returnsFirstArg());
+
+    // when
+    final var actualOutput = useCase.execute(command);
+
+    // then
+    Assertions.assertEquals(2, actualOutput.created());
+    Assertions.assertEquals(1, actualOutput.failed());
+    Assertions.assertEquals(3, actualOutput.items().size());
+
+    Assertions.assertNotNull(actualOutput.items().get(0).id());
+    Assertions.assertNull(actualOutput.items().get(1).id());
+    Assertions.assertEquals(expectedErrorMessage, actualOutput.items().get(1).errors().get(0).message());
+    Assertions.assertNotNull(actualOutput.items().get(2).id());
+
+    Mockito.verify(categoryGateway, Mockito.times(1)).createAll(Mockito.argThat(categories ->
+        categories.size() == 2
+        && "Filmes".equals(categories.get(0).getName())
+        && "Séries".equals(categories.get(1).getName())
+    ));
+  }
+
+  @Test
+  void givenAGatewayError_whenCallsBulkCreate_thenShouldFailEveryValidItem() {
+    // given
+    final var expectedErrorMessage = "Gateway error";
+    final var command = BulkCreateCategoryCommand.with(List.of(
+        CreateCategoryCommand.with("Filmes", null, true),
+        CreateCategoryCommand.with("Séries", null, true)
+    ));
+
+    Mockito.when(categoryGateway.createAll(Mockito.any())).thenThrow(new IllegalStateException(expectedErrorMessage));
+
+    // when
+    final var actualOutput = useCase.execute(command);
+
+    // then
+    Assertions.assertEquals(0, actualOutput.created());
+    Assertions.assertEquals(2, actualOutput.failed());
+    actualOutput.items().forEach(item ->
+        Assertions.assertEquals(expectedErrorMessage, item.errors().get(0).message()));
+  }
+
+  @Test
+  void givenOnlyInvalidCommands_whenCallsBulkCreate_thenShouldNotCallGateway() {
+    final var command = BulkCreateCategoryCommand.with(List.of(CreateCategoryCommand.with(" ", null, true)));
+
+    final var actualOutput = useCase.execute(command);
+
+    Assertions.assertEquals(1, actualOutput.failed());
+    Mockito.verify(categoryGateway, Mockito.never()).createAll(Mockito.any());
+  }
+}
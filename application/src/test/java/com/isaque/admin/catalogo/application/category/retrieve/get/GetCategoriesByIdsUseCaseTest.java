@@ -0,0 +1,77 @@
+package com.isaque.admin.catalogo.application.category.retrieve.get;
+
+import com.isaque.admin.catalogo.application.UseCaseTest;
+import com.isaque.admin.catalogo.application.category.retrive.get.CategoryOutput;
+import com.isaque.admin.catalogo.application.category.retrive.get.DefaultGetCategoriesByIdsUseCase;
+import com.isaque.admin.catalogo.domain.category.Category;
+import com.isaque.admin.catalogo.domain.category.CategoryGateway;
+import com.isaque.admin.catalogo.domain.category.CategoryID;
+import com.isaque.admin.catalogo.domain.exceptions.DomainException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+
+class GetCategoriesByIdsUseCaseTest extends UseCaseTest {
+  @InjectMocks
+  private DefaultGetCategoriesByIdsUseCase useCase;
+
+  @Mock
+  private CategoryGateway categoryGateway;
+
+  @Override
+  protected List<Object> getMocks() {
+    return List.of(categoryGateway);
+  }
+
+  @Test
+  void givenIds_whenCallsGetCategoriesByIds_shouldReturnThemInInputOrderWithMissingIds() {
+    final var filmes = Category.newCategory("Filmes", null, true);
+    final var series = Category.newCategory("Séries", null, true);
+    final var input = List.of(
+        series.getId().getValue(),
+        "123",
+        filmes.getId().getValue(),
+        series.getId().getValue()
+    );
+
+    Mockito.when(categoryGateway.findAllByIds(any())).thenReturn(List.of(filmes, series));
+
+    final var actualOutput = useCase.execute(input);
+
+    Assertions.assertEquals(List.of(CategoryOutput.from(series), CategoryOutput.from(filmes)), actualOutput.items());
+    Assertions.assertEquals(List.of("123"), actualOutput.missing());
+
+    Mockito.verify(categoryGateway, Mockito.times(1))
+        .findAllByIds(Set.of(series.getId(), CategoryID.from("123"), filmes.getId()));
+  }
+
+  @Test
+  void givenNoIds_whenCallsGetCategoriesByIds_shouldNotCallTheGateway() {
+    final var actualOutput = useCase.execute(List.of());
+
+    Assertions.assertTrue(actualOutput.items().isEmpty());
+    Assertions.assertTrue(actualOutput.missing().isEmpty());
+    Mockito.verifyNoInteractions(categoryGateway);
+  }
+
+  @Test
+  void givenTooManyIds_whenCallsGetCategoriesByIds_shouldReturnDomainException() {
+    final var expectedErrorMessage = "'ids' must have at most 10000 items";
+    final var input = IntStream.rangeClosed(0, DefaultGetCategoriesByIdsUseCase.MAX_IDS)
+        .mapToObj(String::valueOf)
+        .toList();
+
+    final var actualException = Assertions.assertThrows(DomainException.class, () -> useCase.execute(input));
+
+    Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    Mockito.verifyNoInteractions(categoryGateway);
+  }
+}
@@ -4,7 +4,9 @@ import com.isaque.admin.catalogo.application.UseCaseTest;
 import com.isaque.admin.catalogo.application.category.retrive.list.CategoryListOutput;
 import com.isaque.admin.catalogo.application.category.retrive.list.DefaultListCategoriesUseCase;
 import com.isaque.admin.catalogo.domain.category.Category;
-import com.isaque.admin.catalogo.domain.category.CategoryGateway;
+import com.isaque.admin.catalogo.domain.category.CategorySearchIndex;
+import com.isaque.admin.catalogo.domain.category.CategoryView;
+import com.isaque.admin.catalogo.domain.category.CategoryViewGateway;
 import com.isaque.admin.catalogo.domain.pagination.Pagination;
 import com.isaque.admin.catalogo.domain.pagination.SearchQuery;
 import org.junit.jupiter.api.Assertions;
@@ -14,24 +16,28 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 
 import java.util.List;
+import java.util.Optional;
 
 public class ListCategoriesUseCaseTest extends UseCaseTest {
   @InjectMocks
   private DefaultListCategoriesUseCase useCase;
 
   @Mock
-  private CategoryGateway categoryGateway;
+  private CategoryViewGateway categoryViewGateway;
+
+  @Mock
+  private CategorySearchIndex categorySearchIndex;
 
   @Override
   protected List<Object> getMocks() {
-    return List.of(categoryGateway);
+    return List.of(categoryViewGateway, categorySearchIndex);
   }
 
   @Test
   void givenAValidQuery_whenCallsListCategories_thenShouldReturnCategories() {
     final var categories = List.of(
-        Category.newCategory("Filmes", null, true),
-        Category.newCategory("Series", null, true)
+        CategoryView.from(Category.newCategory("Filmes", null, true)),
+        CategoryView.from(Category.newCategory("Series", null, true))
     );
 
     final var expectedPage = 0;
@@ -53,7 +59,7 @@ public class ListCategoriesUseCaseTest extends UseCaseTest {
     final var expectedItemsCount = 2;
     final var expectedResult = expectedPagination.map(CategoryListOutput::from);
 
-    Mockito.when(categoryGateway.findAll(Mockito.eq(query))).thenReturn(expectedPagination);
+    Mockito.when(categoryViewGateway.findAll(Mockito.eq(query))).thenReturn(expectedPagination);
 
     final var actualResult = useCase.execute(query);
 
@@ -67,7 +73,7 @@ public class ListCategoriesUseCaseTest extends UseCaseTest {
 
   @Test
   void givenAValidQuery_whenHasNoResults_thenShouldReturnEmptyCategories() {
-    final var categories = List.<Category>of();
+    final var categories = List.<CategoryView>of();
 
     final var expectedPage = 0;
     final var expectedPerPage = 10;
@@ -88,7 +94,7 @@ public class ListCategoriesUseCaseTest extends UseCaseTest {
     final var expectedItemsCount = 0;
     final var expectedResult = expectedPagination.map(CategoryListOutput::from);
 
-    Mockito.when(categoryGateway.findAll(Mockito.eq(query))).thenReturn(expectedPagination);
+    Mockito.when(categoryViewGateway.findAll(Mockito.eq(query))).thenReturn(expectedPagination);
 
     final var actualResult = useCase.execute(query);
 
@@ -99,6 +105,52 @@ public class ListCategoriesUseCaseTest extends UseCaseTest {
     Assertions.assertEquals(categories.size(), actualResult.total());
   }
 
+  @Test
+  void givenAValidTermsQuery_whenSearchIndexAnswers_thenShouldNotCallGateway() {
+    final var categories = List.of(Category.newCategory("Filmes", null, true));
+
+    final var expectedPage = 0;
+    final var expectedPerPage = 10;
+    final var expectedTerms = "fil";
+    final var expectedSort = "name";
+    final var expectedDirection = "asc";
+
+    final var query = new SearchQuery(
+        expectedPage,
+        expectedPerPage,
+        expectedTerms,
+        expectedSort,
+        expectedDirection
+    );
+
+    final var expectedPagination = new Pagination<>(expectedPage, expectedPerPage, categories.size(), categories);
+    final var expectedResult = expectedPagination.map(CategoryListOutput::from);
+
+    Mockito.when(categorySearchIndex.search(Mockito.eq(query))).thenReturn(Optional.of(expectedPagination));
+
+    final var actualResult = useCase.execute(query);
+
+    Assertions.assertEquals(expectedResult, actualResult);
+    Mockito.verify(categoryViewGateway, Mockito.never()).findAll(Mockito.any());
+  }
+
+  @Test
+  void givenAValidTermsQuery_whenSearchIndexCannotAnswer_thenShouldCallGateway() {
+    final var categories = List.of(CategoryView.from(Category.newCategory("Filmes", null, true)));
+
+    final var query = new SearchQuery(0, 10, "fil", "name", "asc");
+
+    final var expectedPagination = new Pagination<>(0, 10, categories.size(), categories);
+    final var expectedResult = expectedPagination.map(CategoryListOutput::from);
+
+    Mockito.when(categorySearchIndex.search(Mockito.eq(query))).thenReturn(Optional.empty());
+    Mockito.when(categoryViewGateway.findAll(Mockito.eq(query))).thenReturn(expectedPagination);
+
+    final var actualResult = useCase.execute(query);
+
+    Assertions.assertEquals(expectedResult, actualResult);
+  }
+
   @Test
   void givenAValidQuery_whenGatewayThrowsException_thenShouldReturnException() {
     final var expectedPage = 0;
@@ -117,7 +169,7 @@ public class ListCategoriesUseCaseTest extends UseCaseTest {
 
     final var expectedErrorMessage = "Gateway error";
 
-    Mockito.when(categoryGateway.findAll(Mockito.eq(query))).thenThrow(new IllegalStateException(expectedErrorMessage));
+    Mockito.when(categoryViewGateway.findAll(Mockito.eq(query))).thenThrow(new IllegalStateException(expectedErrorMessage));
 
     final var actualException = Assertions.assertThrows(IllegalStateException.class, () -> useCase.execute(query));
 
@@ -0,0 +1,51 @@
+package com.isaque.admin.catalogo.application.category.retrive.export;
+
+import com.isaque.admin.catalogo.application.UseCaseTest;
+import com.isaque.admin.catalogo.application.category.retrive.get.CategoryOutput;
+import com.isaque.admin.catalogo.domain.category.Category;
+import com.isaque.admin.catalogo.domain.category.CategoryGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+public class ExportCategoriesUseCaseTest extends UseCaseTest {
+  @InjectMocks
+  private DefaultExportCategoriesUseCase useCase;
+
+  @Mock
+  private CategoryGateway categoryGateway;
+
+  @Override
+  protected List<Object> getMocks() {
+    return List.of(categoryGateway);
+  }
+
+  @Test
+  void givenStoredCategories_whenCallsExportCategories_thenShouldPushEachOutput() {
+    // given
+    final var categories = List.of(
+        Category.newCategory("Filmes", null, true),
+        Category.newCategory("Séries", null, true)
+    );
+
+    Mockito.doAnswer(t -> {
+      final Consumer<Category> action = t.getArgument(0);
+      categories.forEach(action);
+      return null;
+    }).when(categoryGateway).forEach(Mockito.any());
+
+    final var actualOutputs = new ArrayList<CategoryOutput>();
+
+    // when
+    useCase.execute(actualOutputs::add);
+
+    // then
+    Assertions.assertEquals(categories.stream().map(CategoryOutput::from).toList(), actualOutputs);
+  }
+}
@@ -4,7 +4,9 @@ import com.isaque.admin.catalogo.application.UseCaseTest;
 import com.isaque.admin.catalogo.domain.category.Category;
 import com.isaque.admin.catalogo.domain.category.CategoryGateway;
 import com.isaque.admin.catalogo.domain.category.CategoryID;
+import com.isaque.admin.catalogo.domain.exceptions.ConflictException;
 import com.isaque.admin.catalogo.domain.exceptions.NotFoundException;
+import com.isaque.admin.catalogo.domain.exceptions.PreconditionFailedException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -76,6 +78,59 @@ class UpdateCategoryUseCaseTest extends UseCaseTest {
                                && Objects.isNull(updatedCategory.getDeletedAt())));
   }
 
+  @Test
+  void givenAnExpectedVersion_whenStoredCategoryIsAtAnother_thenShouldThrowPreconditionFailed() {
+    final var category = storedCategory(3L);
+    final var expectedErrorMessage = "Category with id %s is not at the expected version"
+        .formatted(category.getId().getValue());
+
+    final var command = UpdateCategoryCommand.with(
+        category.getId().getValue(), "Filmes", null, true, 2L);
+
+    Mockito.when(categoryGateway.findById(eq(category.getId())))
+        .thenReturn(Optional.of(category));
+    Mockito.when(categoryGateway.update(any(), eq(2L)))
+        .thenThrow(PreconditionFailedException.with(Category.class, category.getId()));
+
+    final var actualException = Assertions.assertThrows(PreconditionFailedException.class, () -> useCase.execute(command));
+
+    Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    Mockito.verify(categoryGateway, Mockito.never()).update(any());
+  }
+
+  @Test
+  void givenAnExpectedVersion_whenCachedCategoryIsOlder_thenShouldLeaveTheCheckToTheGateway() {
+    final var category = storedCategory(3L);
+
+    final var command = UpdateCategoryCommand.with(
+        category.getId().getValue(), "Filmes", null, true, 4L);
+
+    Mockito.when(categoryGateway.findById(eq(category.getId())))
+        .thenReturn(Optional.of(category));
+    Mockito.when(categoryGateway.update(any(), eq(4L))).thenAnswer(returnsFirstArg());
+
+    final var actualOutput = useCase.execute(command).get();
+
+    Assertions.assertEquals(category.getId().getValue(), actualOutput.id());
+    Mockito.verify(categoryGateway, Mockito.times(1)).update(any(), eq(4L));
+  }
+
+  @Test
+  void givenAConcurrentUpdate_whenCallsUpdateCategory_thenShouldThrowConflictInsteadOfNotification() {
+    final var category = storedCategory(3L);
+
+    final var command = UpdateCategoryCommand.with(
+        category.getId().getValue(), "Filmes", null, true);
+
+    Mockito.when(categoryGateway.findById(eq(category.getId())))
+        .thenReturn(Optional.of(category));
+    Mockito.when(categoryGateway.update(any()))
+        .thenThrow(ConflictException.with(Category.class, category.getId()));
+
+    Assertions.assertThrows(ConflictException.class, () -> useCase.execute(command));
+    Mockito.verify(categoryGateway, Mockito.times(1)).update(any());
+  }
+
   @Test
   void givenAnInvalidName_whenCallsUpdateCategory_thenShouldReturnDomainException() {
     final var category = Category.newCategory("Film", null, true);
@@ -224,4 +279,18 @@ class UpdateCategoryUseCaseTest extends UseCaseTest {
     Mockito.verify(categoryGateway, Mockito.times(0)).update(any());
   }
 
+
+  private static Category storedCategory(final Long version) {
+    final var category = Category.newCategory("Film", null, true);
+    return Category.with(
+        category.getId(),
+        category.getName(),
+        category.getDescription(),
+        category.isActive(),
+        category.getCreatedAt(),
+        category.getUpdatedAt(),
+        category.getDeletedAt(),
+        version
+    );
+  }
 }
@@ -222,6 +222,36 @@ class CreateGenreUseCaseTest extends UseCaseTest {
     Mockito.verify(genreGateway, Mockito.times(0)).create(Mockito.any());
   }
 
+  @Test
+  void givenRepeatedCategories_whenCallsCrateGenreAndOneDoesNotExist_thenShouldReportItOnce() {
+    // given
+    final var series = CategoryID.from("123");
+    final var filmes = CategoryID.from("456");
+
+    final var expectedName = "Ação";
+    final var expectedIsActive = true;
+    final var expectedCategories = List.of(filmes, series, filmes, series);
+
+    final var expectedErrorMessage = "Some categories could not be found: 456";
+    final var expectedErrorCount = 1;
+
+    Mockito.when(categoryGateway.existsByIds(Mockito.any())).thenReturn(List.of(series));
+
+    final var command =
+        CreateGenreCommand.with(expectedName, expectedIsActive, asString(expectedCategories));
+
+    // when
+    final var actualException = Assertions.assertThrows(NotificationException.class, () -> {
+      useCase.execute(command);
+    });
+
+    // then
+    Assertions.assertEquals(expectedErrorCount, actualException.getErrors().size());
+    Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().getFirst().message());
+
+    Mockito.verify(genreGateway, Mockito.times(0)).create(Mockito.any());
+  }
+
   @Test
   void givenANInValidName_whenCallsCrateGenreAndSomeCategoriesDoesNotExist_thenShouldReturnDomainException() {
     // given
@@ -1,8 +1,10 @@
 package com.isaque.admin.catalogo.application.genre.retrieve.list;
 
 import com.isaque.admin.catalogo.application.UseCaseTest;
+import com.isaque.admin.catalogo.domain.category.CategoryID;
 import com.isaque.admin.catalogo.domain.genre.Genre;
-import com.isaque.admin.catalogo.domain.genre.GenreGateway;
+import com.isaque.admin.catalogo.domain.genre.GenreView;
+import com.isaque.admin.catalogo.domain.genre.GenreViewGateway;
 import com.isaque.admin.catalogo.domain.pagination.Pagination;
 import com.isaque.admin.catalogo.domain.pagination.SearchQuery;
 import org.junit.jupiter.api.Assertions;
@@ -12,25 +14,27 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 
 import java.util.List;
+import java.util.Map;
 
 public class ListGenreUseCaseTest extends UseCaseTest {
   @InjectMocks
   private DefaultListGenreUseCase useCase;
 
   @Mock
-  private GenreGateway genreGateway;
+  private GenreViewGateway genreViewGateway;
 
   @Override
   protected List<Object> getMocks() {
-    return List.of(genreGateway);
+    return List.of(genreViewGateway);
   }
 
   @Test
   void givenAValidQuery_whenCallsListGenre_thenShouldReturnGenres() {
     // given
+    final var filmes = CategoryID.from("123");
     final var genres = List.of(
-        Genre.newGenre("Ação", true),
-        Genre.newGenre("Aventura", true)
+        GenreView.from(Genre.newGenre("Ação", true).addCategory(filmes), Map.of(filmes, "Filmes")),
+        GenreView.from(Genre.newGenre("Aventura", true), Map.of())
     );
 
     final var expectedItems = genres.stream().map(GenreListOutput::from).toList();
@@ -49,7 +53,7 @@ public class ListGenreUseCaseTest extends UseCaseTest {
         genres
     );
 
-    Mockito.when(genreGateway.findAll(Mockito.any()))
+    Mockito.when(genreViewGateway.findAll(Mockito.any()))
         .thenReturn(expectedPagination);
 
     final var searchQuery = new SearchQuery(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
@@ -62,14 +66,19 @@ public class ListGenreUseCaseTest extends UseCaseTest {
     Assertions.assertEquals(expectedPerPage, actualOutput.perPage());
     Assertions.assertEquals(expectedTotal, actualOutput.total());
     Assertions.assertEquals(expectedItems, actualOutput.items());
+    Assertions.assertEquals(List.of("123"), actualOutput.items().get(0).categories());
+    Assertions.assertEquals(
+        List.of(new GenreListOutput.CategoryName("123", "Filmes")),
+        actualOutput.items().get(0).categoryNames()
+    );
 
-    Mockito.verify(genreGateway, Mockito.times(1)).findAll(searchQuery);
+    Mockito.verify(genreViewGateway, Mockito.times(1)).findAll(searchQuery);
   }
 
   @Test
   void givenAValidQuery_whenCallsListGenreAndResultIsEmpty_thenShouldReturnGenres() {
     // given
-    final var genres = List.<Genre>of();
+    final var genres = List.<GenreView>of();
 
     final var expectedItems = List.<GenreListOutput>of();
 
@@ -87,7 +96,7 @@ public class ListGenreUseCaseTest extends UseCaseTest {
         genres
     );
 
-    Mockito.when(genreGateway.findAll(Mockito.any()))
+    Mockito.when(genreViewGateway.findAll(Mockito.any()))
         .thenReturn(expectedPagination);
 
     final var searchQuery = new SearchQuery(
@@ -107,7 +116,7 @@ public class ListGenreUseCaseTest extends UseCaseTest {
     Assertions.assertEquals(expectedPage, actualOutput.total());
     Assertions.assertEquals(expectedItems, actualOutput.items());
 
-    Mockito.verify(genreGateway, Mockito.times(1)).findAll(searchQuery);
+    Mockito.verify(genreViewGateway, Mockito.times(1)).findAll(searchQuery);
   }
 
   @Test
@@ -121,7 +130,7 @@ public class ListGenreUseCaseTest extends UseCaseTest {
 
     final var expectedErrorMessage = "Gateway error";
 
-    Mockito.when(genreGateway.findAll(Mockito.any()))
+    Mockito.when(genreViewGateway.findAll(Mockito.any()))
         .thenThrow(new IllegalStateException(expectedErrorMessage));
 
     final var searchQuery = new SearchQuery(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
@@ -135,6 +144,6 @@ public class ListGenreUseCaseTest extends UseCaseTest {
     // then
     Assertions.assertEquals(expectedErrorMessage, actualOutput.getMessage());
 
-    Mockito.verify(genreGateway, Mockito.times(1)).findAll(searchQuery);
+    Mockito.verify(genreViewGateway, Mockito.times(1)).findAll(searchQuery);
   }
 }
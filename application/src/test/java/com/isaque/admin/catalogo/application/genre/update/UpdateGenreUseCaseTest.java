@@ -4,6 +4,7 @@ import com.isaque.admin.catalogo.application.UseCaseTest;
 import com.isaque.admin.catalogo.domain.category.CategoryGateway;
 import com.isaque.admin.catalogo.domain.category.CategoryID;
 import com.isaque.admin.catalogo.domain.exceptions.NotificationException;
+import com.isaque.admin.catalogo.domain.exceptions.PreconditionFailedException;
 import com.isaque.admin.catalogo.domain.genre.Genre;
 import com.isaque.admin.catalogo.domain.genre.GenreGateway;
 import org.junit.jupiter.api.Assertions;
@@ -78,6 +79,39 @@ class UpdateGenreUseCaseTest extends UseCaseTest {
         ));
   }
 
+  @Test
+  void givenAnExpectedVersion_whenStoredGenreIsAtAnother_thenShouldThrowPreconditionFailed() {
+    // given
+    final var genre = Genre.newGenre("acao", true);
+    final var stored = Genre.with(
+        genre.getId(),
+        genre.getName(),
+        genre.isActive(),
+        genre.getCategories(),
+        genre.getCreatedAt(),
+        genre.getUpdatedAt(),
+        genre.getDeletedAt(),
+        5L
+    );
+
+    final var command = UpdateGenreCommand.with(genre.getId().getValue(), "Ação", true, List.of(), 4L);
+
+    Mockito.when(genreGateway.findById(Mockito.any()))
+        .thenReturn(Optional.of(stored));
+    Mockito.when(genreGateway.update(Mockito.any(), Mockito.eq(4L)))
+        .thenThrow(PreconditionFailedException.with(Genre.class, genre.getId()));
+
+    // when
+    final var actualException = Assertions.assertThrows(PreconditionFailedException.class, () -> useCase.execute(command));
+
+    // then
+    Assertions.assertEquals(
+        "Genre with id %s is not at the expected version".formatted(genre.getId().getValue()),
+        actualException.getMessage()
+    );
+    Mockito.verify(genreGateway, Mockito.never()).update(Mockito.any());
+  }
+
   @Test
   void givenAValidCommandWithCategories_whenCallsUpdateGenre_thenShouldReturnGenreId() {
     // given
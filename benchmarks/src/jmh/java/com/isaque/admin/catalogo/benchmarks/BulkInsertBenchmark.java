@@ -0,0 +1,96 @@
+package com.isaque.admin.catalogo.benchmarks;
+
+import com.isaque.admin.catalogo.domain.utils.IdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Insert rate into a BINARY(16) clustered key as the table grows, per id generator. Needs the
+ * MySQL from docker-compose (or BENCHMARK_JDBC_URL/USER/PASSWORD) and is only run with
+ * {@code ./gradlew :benchmarks:jmh -PwithDatabase}.
+ */
+@State(Scope.Benchmark)
+public class BulkInsertBenchmark {
+    private static final int BATCH = 1_000;
+
+    @Param({IdGenerator.RANDOM, IdGenerator.TIME_ORDERED})
+    private String generator;
+
+    private IdGenerator idGenerator;
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        this.idGenerator = IdGenerator.from(generator);
+        this.connection = DriverManager.getConnection(
+                env("BENCHMARK_JDBC_URL", "jdbc:mysql://localhost:3306/adm_videos?rewriteBatchedStatements=true"),
+                env("BENCHMARK_JDBC_USER", "root"),
+                env("BENCHMARK_JDBC_PASSWORD", "123456")
+        );
+        this.connection.setAutoCommit(false);
+        try (final var statement = this.connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS benchmark_categories");
+            statement.execute("""
+                    CREATE TABLE benchmark_categories (
+                        id BINARY(16) NOT NULL PRIMARY KEY,
+                        name VARCHAR(255) NOT NULL,
+                        description VARCHAR(4000),
+                        active BOOLEAN NOT NULL DEFAULT TRUE,
+                        created_at DATETIME(6) NOT NULL,
+                        updated_at DATETIME(6) NOT NULL,
+                        deleted_at DATETIME(6) NULL
+                    )
+                    """);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (final var statement = this.connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS benchmark_categories");
+        }
+        this.connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void insertBatch() throws SQLException {
+        final var now = Timestamp.from(Instant.now());
+        try (final var insert = this.connection.prepareStatement(
+                "INSERT INTO benchmark_categories (id, name, description, active, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < BATCH; i++) {
+                final var id = this.idGenerator.next();
+                insert.setBytes(1, ByteBuffer.allocate(16)
+                        .putLong(id.getMostSignificantBits())
+                        .putLong(id.getLeastSignificantBits())
+                        .array());
+                insert.setString(2, "Categoria " + i);
+                insert.setString(3, "Descrição da categoria " + i);
+                insert.setBoolean(4, true);
+                insert.setTimestamp(5, now);
+                insert.setTimestamp(6, now);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        this.connection.commit();
+    }
+
+    private static String env(final String name, final String defaultValue) {
+        return Objects.requireNonNullElse(System.getenv(name), defaultValue);
+    }
+}
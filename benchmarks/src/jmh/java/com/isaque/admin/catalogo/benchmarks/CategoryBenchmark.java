@@ -0,0 +1,25 @@
+package com.isaque.admin.catalogo.benchmarks;
+
+import com.isaque.admin.catalogo.domain.category.Category;
+import com.isaque.admin.catalogo.domain.validation.handler.Notification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class CategoryBenchmark {
+
+    @Benchmark
+    public Notification newCategoryAndValidate() {
+        final var notification = Notification.create();
+        Category.newCategory("Filmes", "A categoria mais assistida", true).validate(notification);
+        return notification;
+    }
+
+    @Benchmark
+    public Notification newInvalidCategoryAndValidate() {
+        final var notification = Notification.create();
+        Category.newCategory(" ", "A categoria mais assistida", true).validate(notification);
+        return notification;
+    }
+}
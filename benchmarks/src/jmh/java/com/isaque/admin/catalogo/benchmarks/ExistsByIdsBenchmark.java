@@ -0,0 +1,142 @@
+package com.isaque.admin.catalogo.benchmarks;
+
+import com.isaque.admin.catalogo.infrastructure.utils.InClauseExecutor;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * {@code CategoryMySQLGateway.existsByIds} query shapes for 10, 1k and 100k ids: one IN with every
+ * id, {@link InClauseExecutor} chunks run in sequence, and chunks fanned out over 4 connections.
+ * IN lists are padded to the next power of two, as Hibernate does with
+ * {@code in_clause_parameter_padding}. Needs the MySQL from docker-compose (or
+ * BENCHMARK_JDBC_URL/USER/PASSWORD) and is only run with {@code ./gradlew :benchmarks:jmh -PwithDatabase}.
+ */
+@State(Scope.Benchmark)
+public class ExistsByIdsBenchmark {
+    private static final int ROWS = 100_000;
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    @Param({"single", "chunked", "parallel"})
+    private String strategy;
+
+    private HikariDataSource dataSource;
+    private InClauseExecutor executor;
+    private List<byte[]> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        this.dataSource = new HikariDataSource();
+        this.dataSource.setJdbcUrl(env("BENCHMARK_JDBC_URL", "jdbc:mysql://localhost:3306/adm_videos?rewriteBatchedStatements=true"));
+        this.dataSource.setUsername(env("BENCHMARK_JDBC_USER", "root"));
+        this.dataSource.setPassword(env("BENCHMARK_JDBC_PASSWORD", "123456"));
+        this.dataSource.setMaximumPoolSize(4);
+        this.dataSource.setAutoCommit(false);
+
+        this.executor = switch (strategy) {
+            case "single" -> new InClauseExecutor(Integer.MAX_VALUE, 1, TransactionOperations.withoutTransaction());
+            case "chunked" -> new InClauseExecutor(1024, 1, TransactionOperations.withoutTransaction());
+            case "parallel" -> new InClauseExecutor(1024, 4, TransactionOperations.withoutTransaction());
+            default -> throw new IllegalArgumentException(strategy);
+        };
+
+        final var stored = new ArrayList<byte[]>(ROWS);
+        try (final var connection = this.dataSource.getConnection();
+             final var statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS benchmark_categories");
+            statement.execute("""
+                    CREATE TABLE benchmark_categories (
+                        id BINARY(16) NOT NULL PRIMARY KEY,
+                        name VARCHAR(255) NOT NULL,
+                        created_at DATETIME(6) NOT NULL
+                    )
+                    """);
+            try (final var insert = connection.prepareStatement(
+                    "INSERT INTO benchmark_categories (id, name, created_at) VALUES (?, ?, ?)")) {
+                final var now = Timestamp.from(Instant.now());
+                for (int i = 0; i < ROWS; i++) {
+                    final var id = bytes(UUID.randomUUID());
+                    stored.add(id);
+                    insert.setBytes(1, id);
+                    insert.setString(2, "Categoria " + i);
+                    insert.setTimestamp(3, now);
+                    insert.addBatch();
+                    if (i % 5_000 == 4_999) {
+                        insert.executeBatch();
+                    }
+                }
+                insert.executeBatch();
+            }
+            connection.commit();
+        }
+
+        Collections.shuffle(stored);
+        this.ids = List.copyOf(stored.subList(0, size));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (final var connection = this.dataSource.getConnection();
+             final var statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS benchmark_categories");
+        }
+        this.dataSource.close();
+    }
+
+    @Benchmark
+    public List<byte[]> existsByIds() {
+        return this.executor.execute(this.ids, this::existing);
+    }
+
+    private List<byte[]> existing(final List<byte[]> chunk) {
+        final var parameters = chunk.size() == 1 ? 1 : Integer.highestOneBit(chunk.size() - 1) << 1;
+        final var sql = "SELECT id FROM benchmark_categories WHERE id IN ("
+                + String.join(",", Collections.nCopies(parameters, "?")) + ")";
+
+        try (final var connection = this.dataSource.getConnection();
+             final var select = connection.prepareStatement(sql)) {
+            for (int i = 0; i < parameters; i++) {
+                select.setBytes(i + 1, chunk.get(Math.min(i, chunk.size() - 1)));
+            }
+            final var found = new ArrayList<byte[]>(chunk.size());
+            try (final var rows = select.executeQuery()) {
+                while (rows.next()) {
+                    found.add(rows.getBytes(1));
+                }
+            }
+            connection.commit();
+            return found;
+        } catch (final SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] bytes(final UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+
+    private static String env(final String name, final String defaultValue) {
+        return Objects.requireNonNullElse(System.getenv(name), defaultValue);
+    }
+}
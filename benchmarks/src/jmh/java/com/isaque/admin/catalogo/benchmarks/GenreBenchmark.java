@@ -0,0 +1,32 @@
+package com.isaque.admin.catalogo.benchmarks;
+
+import com.isaque.admin.catalogo.domain.category.CategoryID;
+import com.isaque.admin.catalogo.domain.genre.Genre;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+@State(Scope.Benchmark)
+public class GenreBenchmark {
+    @Param({"10", "1000", "10000"})
+    private int categories;
+
+    private List<CategoryID> categoryIds;
+    private Genre genre;
+
+    @Setup
+    public void setUp() {
+        this.categoryIds = Stream.generate(CategoryID::unique).limit(categories).toList();
+        this.genre = Genre.newGenre("Ação", true);
+    }
+
+    @Benchmark
+    public Genre updateWithCategories() {
+        return this.genre.update("Ação e aventura", true, this.categoryIds);
+    }
+}
@@ -0,0 +1,35 @@
+package com.isaque.admin.catalogo.benchmarks;
+
+import com.isaque.admin.catalogo.domain.utils.IdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.UUID;
+
+@State(Scope.Benchmark)
+public class IdGeneratorBenchmark {
+    @Param({IdGenerator.RANDOM, IdGenerator.TIME_ORDERED})
+    private String generator;
+
+    private IdGenerator idGenerator;
+
+    @Setup
+    public void setUp() {
+        this.idGenerator = IdGenerator.from(generator);
+    }
+
+    @Benchmark
+    public UUID singleThread() {
+        return this.idGenerator.next();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UUID contended() {
+        return this.idGenerator.next();
+    }
+}
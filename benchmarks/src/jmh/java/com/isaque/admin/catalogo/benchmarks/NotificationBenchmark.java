@@ -0,0 +1,34 @@
+package com.isaque.admin.catalogo.benchmarks;
+
+import com.isaque.admin.catalogo.domain.validation.Error;
+import com.isaque.admin.catalogo.domain.validation.handler.Notification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class NotificationBenchmark {
+    private static final Error ERROR = new Error("'name' must not be null");
+
+    @Param({"1", "100"})
+    private int errors;
+
+    @Benchmark
+    public Notification appendErrors() {
+        final var notification = Notification.create();
+        for (int i = 0; i < errors; i++) {
+            notification.append(ERROR);
+        }
+        return notification;
+    }
+
+    @Benchmark
+    public Notification mergeNotifications() {
+        final var notification = Notification.create();
+        for (int i = 0; i < errors; i++) {
+            notification.append(Notification.create(ERROR));
+        }
+        return notification;
+    }
+}
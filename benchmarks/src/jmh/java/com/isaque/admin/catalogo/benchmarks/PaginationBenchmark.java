@@ -0,0 +1,68 @@
+package com.isaque.admin.catalogo.benchmarks;
+
+import com.isaque.admin.catalogo.application.category.retrive.list.CategoryListOutput;
+import com.isaque.admin.catalogo.domain.category.Category;
+import com.isaque.admin.catalogo.domain.pagination.Pagination;
+import com.isaque.admin.catalogo.infrastructure.category.models.CategoryListResponse;
+import com.isaque.admin.catalogo.infrastructure.category.presenters.CategoryApiPresenter;
+import com.isaque.admin.catalogo.infrastructure.configuration.json.Json;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.stream.IntStream;
+
+/**
+ * The list read path after the query: aggregate to output, output to response, response to JSON.
+ * {@code writePresentedPage} and {@code writePresentedPageView} are the controller's last step
+ * before and after presenting through {@link Pagination#mapView}; compare their gc.alloc.rate.norm.
+ * Expect a small difference, the response list and its stream: the responses and the JSON itself
+ * are allocated either way.
+ */
+@State(Scope.Benchmark)
+public class PaginationBenchmark {
+    @Param({"10", "100", "1000"})
+    private int perPage;
+
+    private Pagination<Category> categories;
+    private Pagination<CategoryListOutput> outputs;
+    private Pagination<CategoryListResponse> responses;
+
+    @Setup
+    public void setUp() {
+        final var items = IntStream.range(0, perPage)
+                .mapToObj(i -> Category.newCategory("Categoria " + i, "Descrição da categoria " + i, i % 2 == 0))
+                .toList();
+
+        this.categories = new Pagination<>(0, perPage, 1000, items);
+        this.outputs = this.categories.map(CategoryListOutput::from);
+        this.responses = this.outputs.map(CategoryApiPresenter::present);
+    }
+
+    @Benchmark
+    public Pagination<CategoryListOutput> mapToOutput() {
+        return this.categories.map(CategoryListOutput::from);
+    }
+
+    @Benchmark
+    public Pagination<CategoryListResponse> presentOutputs() {
+        return this.outputs.map(CategoryApiPresenter::present);
+    }
+
+    @Benchmark
+    public String writeResponsePage() {
+        return Json.writeValueAsString(this.responses);
+    }
+
+    @Benchmark
+    public String writePresentedPage() {
+        return Json.writeValueAsString(this.outputs.map(CategoryApiPresenter::present));
+    }
+
+    @Benchmark
+    public String writePresentedPageView() {
+        return Json.writeValueAsString(this.outputs.mapView(CategoryApiPresenter::present));
+    }
+}
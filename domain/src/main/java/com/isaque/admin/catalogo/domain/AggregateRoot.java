@@ -1,10 +1,24 @@
 package com.isaque.admin.catalogo.domain;
 
+import com.isaque.admin.catalogo.domain.events.DomainEvent;
 import com.isaque.admin.catalogo.domain.validation.ValidationHandler;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
 public class AggregateRoot<ID extends Identifier> extends Entity<ID>{
+    private final Long version;
+    private List<DomainEvent> domainEvents = new ArrayList<>();
+
     protected AggregateRoot(final ID id){
+        this(id, null);
+    }
+
+    protected AggregateRoot(final ID id, final Long version){
         super(id);
+        this.version = version;
     }
 
     @Override
@@ -12,4 +26,33 @@ public class AggregateRoot<ID extends Identifier> extends Entity<ID>{
         return;
     }
 
+    /**
+     * Version of the stored state this aggregate was loaded from, or {@code null} while it was never
+     * persisted. Writes based on an older version are rejected.
+     */
+    public Long getVersion() {
+        return version;
+    }
+
+    /**
+     * Events raised since the aggregate was loaded, in the order they happened.
+     */
+    public List<DomainEvent> getDomainEvents() {
+        return Collections.unmodifiableList(domainEvents);
+    }
+
+    public void clearDomainEvents() {
+        this.domainEvents.clear();
+    }
+
+    protected void registerEvent(final DomainEvent event) {
+        this.domainEvents.add(Objects.requireNonNull(event, "'event' should not be null"));
+    }
+
+    /**
+     * Gives a copy made by {@link Object#clone()} its own event list.
+     */
+    protected void copyDomainEvents() {
+        this.domainEvents = new ArrayList<>(this.domainEvents);
+    }
 }
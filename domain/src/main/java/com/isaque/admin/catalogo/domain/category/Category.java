@@ -21,9 +21,10 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
             final boolean isActive,
             final Instant creationDate,
             final Instant updateDate,
-            final Instant deleteDate
+            final Instant deleteDate,
+            final Long version
     ) {
-        super(id);
+        super(id, version);
         this.name = name;
         this.description = description;
         this.active = isActive;
@@ -40,15 +41,18 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
         final var id = CategoryID.unique();
         final var now = Instant.now();
         final var deletedAt = isActive ? null : now;
-        return new Category(
+        final var category = new Category(
                 id,
                 name,
                 description,
                 isActive,
                 now,
                 now,
-                deletedAt
+                deletedAt,
+                null
         );
+        category.registerEvent(new CategoryCreated(id.getValue(), name, description, isActive, now));
+        return category;
     }
 
     public static Category with(final Category category) {
@@ -62,10 +66,11 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
         final boolean active,
         final Instant createdAt,
         final Instant updatedAt,
-        final Instant deletedAt
+        final Instant deletedAt,
+        final Long version
         ){
         return new Category(
-                id,name,description,active,createdAt,updatedAt,deletedAt);
+                id,name,description,active,createdAt,updatedAt,deletedAt,version);
     }
 
     @Override
@@ -74,19 +79,14 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
     }
 
     public Category activate() {
-        this.deletedAt = null;
-        this.active = true;
-        this.updatedAt = Instant.now();
+        markActive();
+        registerEvent(new CategoryActivated(getId().getValue(), this.updatedAt));
         return this;
     }
 
     public Category deactivate() {
-        if (getDeletedAt() == null) {
-            this.deletedAt = Instant.now();
-        }
-
-        this.active = false;
-        this.updatedAt = Instant.now();
+        markInactive();
+        registerEvent(new CategoryDeactivated(getId().getValue(), this.updatedAt));
         return this;
     }
 
@@ -96,16 +96,32 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
             final boolean isActive
     ) {
         if (isActive) {
-            this.activate();
+            markActive();
         } else {
-            deactivate();
+            markInactive();
         }
         this.name = name;
         this.description = description;
         this.updatedAt = Instant.now();
+        registerEvent(new CategoryUpdated(getId().getValue(), name, description, isActive, this.updatedAt));
         return this;
     }
 
+    private void markActive() {
+        this.deletedAt = null;
+        this.active = true;
+        this.updatedAt = Instant.now();
+    }
+
+    private void markInactive() {
+        if (getDeletedAt() == null) {
+            this.deletedAt = Instant.now();
+        }
+
+        this.active = false;
+        this.updatedAt = Instant.now();
+    }
+
     public String getName() {
         return name;
     }
@@ -133,7 +149,9 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
     @Override
     public Category clone() {
         try {
-            return (Category) super.clone();
+            final var copy = (Category) super.clone();
+            copy.copyDomainEvents();
+            return copy;
         } catch (CloneNotSupportedException e) {
             throw new AssertionError();
         }
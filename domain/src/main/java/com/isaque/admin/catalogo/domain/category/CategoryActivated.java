@@ -0,0 +1,11 @@
+package com.isaque.admin.catalogo.domain.category;
+
+import com.isaque.admin.catalogo.domain.events.DomainEvent;
+
+import java.time.Instant;
+
+public record CategoryActivated(
+        String aggregateId,
+        Instant occurredOn
+) implements DomainEvent {
+}
@@ -0,0 +1,8 @@
+package com.isaque.admin.catalogo.domain.category;
+
+import com.isaque.admin.catalogo.domain.events.DomainEvent;
+
+import java.time.Instant;
+
+public record CategoryDeleted(String aggregateId, Instant occurredOn) implements DomainEvent {
+}
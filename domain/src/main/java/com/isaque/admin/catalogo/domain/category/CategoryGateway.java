@@ -5,17 +5,35 @@ import com.isaque.admin.catalogo.domain.pagination.SearchQuery;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface CategoryGateway {
     Category create(Category category);
 
+    List<Category> createAll(List<Category> categories);
+
     void deleteById(CategoryID id);
 
     Optional<Category> findById(CategoryID id);
 
+    /**
+     * Loads every stored category among {@code ids}, in no particular order; unknown ids are left out.
+     */
+    List<Category> findAllByIds(Iterable<CategoryID> ids);
+
     Category update(Category category);
 
+    /**
+     * Like {@link #update(Category)}, but the stored category must be at {@code expectedVersion},
+     * checked against the stored row rather than the aggregate, which may come from a cache.
+     *
+     * @throws com.isaque.admin.catalogo.domain.exceptions.PreconditionFailedException if it is not
+     */
+    Category update(Category category, Long expectedVersion);
+
     Pagination<Category> findAll(SearchQuery query);
 
     List<CategoryID> existsByIds(Iterable<CategoryID> ids);
+
+    void forEach(Consumer<Category> action);
 }
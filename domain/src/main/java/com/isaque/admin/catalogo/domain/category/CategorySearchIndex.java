@@ -0,0 +1,18 @@
+package com.isaque.admin.catalogo.domain.category;
+
+import com.isaque.admin.catalogo.domain.pagination.Pagination;
+import com.isaque.admin.catalogo.domain.pagination.SearchQuery;
+
+import java.util.Optional;
+
+public interface CategorySearchIndex {
+    /**
+     * Answers a terms query without reaching the database, or returns empty when the index cannot
+     * (not loaded yet, disabled, or the query needs something it does not support).
+     */
+    Optional<Pagination<Category>> search(SearchQuery query);
+
+    void index(Category category);
+
+    void remove(CategoryID id);
+}
@@ -0,0 +1,14 @@
+package com.isaque.admin.catalogo.domain.category;
+
+import com.isaque.admin.catalogo.domain.events.DomainEvent;
+
+import java.time.Instant;
+
+public record CategoryUpdated(
+        String aggregateId,
+        String name,
+        String description,
+        boolean active,
+        Instant occurredOn
+) implements DomainEvent {
+}
@@ -0,0 +1,29 @@
+package com.isaque.admin.catalogo.domain.category;
+
+import java.time.Instant;
+
+/**
+ * Read-only shape of a category in a listing. Read straight from storage, it skips the aggregate
+ * and its validation, which only matter for writes.
+ */
+public record CategoryView(
+        CategoryID id,
+        String name,
+        String description,
+        boolean active,
+        Instant createdAt,
+        Instant updatedAt,
+        Instant deletedAt
+) {
+    public static CategoryView from(final Category category) {
+        return new CategoryView(
+                category.getId(),
+                category.getName(),
+                category.getDescription(),
+                category.isActive(),
+                category.getCreatedAt(),
+                category.getUpdatedAt(),
+                category.getDeletedAt()
+        );
+    }
+}
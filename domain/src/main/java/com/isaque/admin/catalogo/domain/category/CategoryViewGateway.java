@@ -0,0 +1,11 @@
+package com.isaque.admin.catalogo.domain.category;
+
+import com.isaque.admin.catalogo.domain.pagination.Pagination;
+import com.isaque.admin.catalogo.domain.pagination.SearchQuery;
+
+public interface CategoryViewGateway {
+    /**
+     * Same filters, sorts and cursors as {@link CategoryGateway#findAll(SearchQuery)}.
+     */
+    Pagination<CategoryView> findAll(SearchQuery query);
+}
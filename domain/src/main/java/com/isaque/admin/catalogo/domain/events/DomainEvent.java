@@ -0,0 +1,13 @@
+package com.isaque.admin.catalogo.domain.events;
+
+import java.time.Instant;
+
+/**
+ * Something that happened to an aggregate, recorded by the aggregate itself and published after
+ * the change is stored.
+ */
+public interface DomainEvent {
+    String aggregateId();
+
+    Instant occurredOn();
+}
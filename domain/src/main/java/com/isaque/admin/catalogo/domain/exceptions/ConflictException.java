@@ -0,0 +1,27 @@
+package com.isaque.admin.catalogo.domain.exceptions;
+
+import com.isaque.admin.catalogo.domain.AggregateRoot;
+import com.isaque.admin.catalogo.domain.Identifier;
+import com.isaque.admin.catalogo.domain.validation.Error;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A write was based on a version of the aggregate that is no longer the stored one, because another
+ * request changed it in between.
+ */
+public class ConflictException extends DomainException {
+
+    protected ConflictException(final String message, final List<Error> errors) {
+        super(message, errors);
+    }
+
+    public static ConflictException with(
+            final Class<? extends AggregateRoot> aggregate,
+            final Identifier id
+    ) {
+        final var error = "%s with id %s was modified by another request".formatted(aggregate.getSimpleName(), id.getValue());
+        return new ConflictException(error, Collections.emptyList());
+    }
+}
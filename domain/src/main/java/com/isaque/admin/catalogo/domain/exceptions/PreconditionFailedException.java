@@ -0,0 +1,30 @@
+package com.isaque.admin.catalogo.domain.exceptions;
+
+import com.isaque.admin.catalogo.domain.AggregateRoot;
+import com.isaque.admin.catalogo.domain.Identifier;
+import com.isaque.admin.catalogo.domain.validation.Error;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A write required the aggregate to be at a version the client named, and the stored one is another.
+ */
+public class PreconditionFailedException extends DomainException {
+
+    protected PreconditionFailedException(final String message, final List<Error> errors) {
+        super(message, errors);
+    }
+
+    public static PreconditionFailedException with(
+            final Class<? extends AggregateRoot> aggregate,
+            final Identifier id
+    ) {
+        final var error = "%s with id %s is not at the expected version".formatted(aggregate.getSimpleName(), id.getValue());
+        return new PreconditionFailedException(error, Collections.emptyList());
+    }
+
+    public static PreconditionFailedException with(final Error error) {
+        return new PreconditionFailedException(error.message(), List.of(error));
+    }
+}
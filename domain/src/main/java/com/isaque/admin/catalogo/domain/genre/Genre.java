@@ -10,7 +10,11 @@ import com.isaque.admin.catalogo.domain.validation.handler.Notification;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
 public class Genre extends AggregateRoot<GenreID> {
 
@@ -20,6 +24,8 @@ public class Genre extends AggregateRoot<GenreID> {
     private List<CategoryID> categories;
     private Instant updatedAt;
     private Instant deletedAt;
+    private final Set<CategoryID> addedCategories = new LinkedHashSet<>();
+    private final Set<CategoryID> removedCategories = new LinkedHashSet<>();
 
     protected Genre(
             final GenreID genreID,
@@ -28,9 +34,10 @@ public class Genre extends AggregateRoot<GenreID> {
             final List<CategoryID> categories,
             final Instant createdAt,
             final Instant updatedAt,
-            final Instant deletedAt
+            final Instant deletedAt,
+            final Long version
     ) {
-        super(genreID);
+        super(genreID, version);
         this.name = name;
         this.active = isActive;
         this.categories = categories;
@@ -44,7 +51,9 @@ public class Genre extends AggregateRoot<GenreID> {
         final var id = GenreID.unique();
         final var now = InstantUtils.now();
         final var deletedAt = isActive ? null : now;
-        return new Genre(id, name, isActive, new ArrayList<>(), now, now, deletedAt);
+        final var genre = new Genre(id, name, isActive, new ArrayList<>(), now, now, deletedAt, null);
+        genre.registerEvent(new GenreCreated(id.getValue(), name, isActive, now));
+        return genre;
     }
 
     public static Genre with(
@@ -54,9 +63,10 @@ public class Genre extends AggregateRoot<GenreID> {
             final List<CategoryID> categories,
             final Instant createdAt,
             final Instant updatedAt,
-            final Instant deletedAt
+            final Instant deletedAt,
+            final Long version
     ) {
-        return new Genre(id, name, isActive, categories, createdAt, updatedAt, deletedAt);
+        return new Genre(id, name, isActive, categories, createdAt, updatedAt, deletedAt, version);
     }
 
     public static Genre with(final Genre genre) {
@@ -67,7 +77,8 @@ public class Genre extends AggregateRoot<GenreID> {
                 new ArrayList<>(genre.categories),
                 genre.createdAt,
                 genre.updatedAt,
-                genre.deletedAt
+                genre.deletedAt,
+                genre.getVersion()
         );
     }
 
@@ -94,9 +105,20 @@ public class Genre extends AggregateRoot<GenreID> {
             deactivate();
         }
         this.name = name;
+        final var previous = new LinkedHashSet<>(this.categories);
         this.categories = new ArrayList<>(categories != null ? categories : Collections.emptyList());
+        final var current = new LinkedHashSet<>(this.categories);
+        previous.stream().filter(id -> !current.contains(id)).forEach(this::trackRemoved);
+        current.stream().filter(id -> !previous.contains(id)).forEach(this::trackAdded);
         this.updatedAt = InstantUtils.now();
         this.selfValidate();
+        registerEvent(new GenreUpdated(
+                getId().getValue(),
+                name,
+                isActive,
+                this.categories.stream().map(CategoryID::getValue).toList(),
+                this.updatedAt
+        ));
         return this;
     }
 
@@ -114,12 +136,17 @@ public class Genre extends AggregateRoot<GenreID> {
         new GenreValidator(this, handler).validate();
     }
 
+    /**
+     * A category the genre already has is left as is: no second link, no change tracked, no event.
+     */
     public Genre addCategory(final CategoryID id) {
-        if (id == null) {
+        if (id == null || this.categories.contains(id)) {
             return this;
         }
+        trackAdded(id);
         this.categories.add(id);
         this.updatedAt = InstantUtils.now();
+        registerEvent(new GenreCategoryAdded(getId().getValue(), id.getValue(), this.updatedAt));
         return this;
     }
 
@@ -127,8 +154,18 @@ public class Genre extends AggregateRoot<GenreID> {
         if (categories == null || categories.isEmpty()) {
             return this;
         }
-        this.categories.addAll(categories);
+        final var present = new HashSet<>(this.categories);
+        final var added = categories.stream()
+                .filter(Objects::nonNull)
+                .filter(present::add)
+                .toList();
+        if (added.isEmpty()) {
+            return this;
+        }
+        added.forEach(this::trackAdded);
+        this.categories.addAll(added);
         this.updatedAt = InstantUtils.now();
+        added.forEach(id -> registerEvent(new GenreCategoryAdded(getId().getValue(), id.getValue(), this.updatedAt)));
         return this;
     }
 
@@ -136,11 +173,43 @@ public class Genre extends AggregateRoot<GenreID> {
         if (id == null) {
             return this;
         }
-        this.categories.remove(id);
+        final var removed = this.categories.remove(id);
         this.updatedAt = InstantUtils.now();
+        if (removed && !this.categories.contains(id)) {
+            trackRemoved(id);
+        }
+        if (removed) {
+            registerEvent(new GenreCategoryRemoved(getId().getValue(), id.getValue(), this.updatedAt));
+        }
         return this;
     }
 
+    /**
+     * Categories added since the genre was created or loaded, not counting those removed again.
+     */
+    public Set<CategoryID> getAddedCategories() {
+        return Collections.unmodifiableSet(addedCategories);
+    }
+
+    /**
+     * Categories removed since the genre was created or loaded, not counting those added again.
+     */
+    public Set<CategoryID> getRemovedCategories() {
+        return Collections.unmodifiableSet(removedCategories);
+    }
+
+    private void trackAdded(final CategoryID id) {
+        if (!this.removedCategories.remove(id)) {
+            this.addedCategories.add(id);
+        }
+    }
+
+    private void trackRemoved(final CategoryID id) {
+        if (!this.addedCategories.remove(id)) {
+            this.removedCategories.add(id);
+        }
+    }
+
     public String getName() {
         return name;
     }
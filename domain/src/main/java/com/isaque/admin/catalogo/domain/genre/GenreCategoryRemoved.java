@@ -0,0 +1,12 @@
+package com.isaque.admin.catalogo.domain.genre;
+
+import com.isaque.admin.catalogo.domain.events.DomainEvent;
+
+import java.time.Instant;
+
+public record GenreCategoryRemoved(
+        String aggregateId,
+        String categoryId,
+        Instant occurredOn
+) implements DomainEvent {
+}
@@ -0,0 +1,13 @@
+package com.isaque.admin.catalogo.domain.genre;
+
+import com.isaque.admin.catalogo.domain.events.DomainEvent;
+
+import java.time.Instant;
+
+public record GenreCreated(
+        String aggregateId,
+        String name,
+        boolean active,
+        Instant occurredOn
+) implements DomainEvent {
+}
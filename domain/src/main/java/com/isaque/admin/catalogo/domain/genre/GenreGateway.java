@@ -14,5 +14,13 @@ public interface GenreGateway {
 
   Genre update(Genre genre);
 
+  /**
+   * Like {@link #update(Genre)}, but the stored genre must be at {@code expectedVersion}, checked
+   * against the stored row rather than the aggregate, which may come from a cache.
+   *
+   * @throws com.isaque.admin.catalogo.domain.exceptions.PreconditionFailedException if it is not
+   */
+  Genre update(Genre genre, Long expectedVersion);
+
   Pagination<Genre> findAll(SearchQuery query);
 }
@@ -1,6 +1,7 @@
 package com.isaque.admin.catalogo.domain.genre;
 
 import com.isaque.admin.catalogo.domain.Identifier;
+import com.isaque.admin.catalogo.domain.utils.IdUtils;
 
 import java.util.Objects;
 import java.util.UUID;
@@ -14,7 +15,7 @@ public class GenreID extends Identifier {
     }
 
     public static GenreID unique() {
-        return GenreID.from(UUID.randomUUID());
+        return GenreID.from(IdUtils.uuid());
     }
 
     public static GenreID from(final String anId) {
@@ -0,0 +1,30 @@
+package com.isaque.admin.catalogo.domain.genre;
+
+import com.isaque.admin.catalogo.domain.pagination.SortField;
+
+/**
+ * Sorts accepted when listing genres; each one has a (column, id) index.
+ */
+public enum GenreSortField implements SortField {
+    NAME("name", "name"),
+    CREATED_AT("createdAt", "createdAt"),
+    UPDATED_AT("updatedAt", "updatedAt");
+
+    private final String key;
+    private final String property;
+
+    GenreSortField(final String key, final String property) {
+        this.key = key;
+        this.property = property;
+    }
+
+    @Override
+    public String key() {
+        return key;
+    }
+
+    @Override
+    public String property() {
+        return property;
+    }
+}
@@ -0,0 +1,15 @@
+package com.isaque.admin.catalogo.domain.genre;
+
+import com.isaque.admin.catalogo.domain.events.DomainEvent;
+
+import java.time.Instant;
+import java.util.List;
+
+public record GenreUpdated(
+        String aggregateId,
+        String name,
+        boolean active,
+        List<String> categories,
+        Instant occurredOn
+) implements DomainEvent {
+}
@@ -0,0 +1,42 @@
+package com.isaque.admin.catalogo.domain.genre;
+
+import com.isaque.admin.catalogo.domain.category.CategoryID;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read model of a genre with the names of its categories resolved, so a listing needs no lookup
+ * per category.
+ */
+public record GenreView(
+        GenreID id,
+        String name,
+        boolean active,
+        List<CategoryRef> categories,
+        Instant createdAt,
+        Instant updatedAt,
+        Instant deletedAt
+) {
+    public record CategoryRef(String id, String name) {
+    }
+
+    /**
+     * Categories missing from {@code categoryNames} (deleted meanwhile) are left out.
+     */
+    public static GenreView from(final Genre genre, final Map<CategoryID, String> categoryNames) {
+        return new GenreView(
+                genre.getId(),
+                genre.getName(),
+                genre.isActive(),
+                genre.getCategories().stream()
+                        .filter(categoryNames::containsKey)
+                        .map(id -> new CategoryRef(id.getValue(), categoryNames.get(id)))
+                        .toList(),
+                genre.getCreatedAt(),
+                genre.getUpdatedAt(),
+                genre.getDeletedAt()
+        );
+    }
+}
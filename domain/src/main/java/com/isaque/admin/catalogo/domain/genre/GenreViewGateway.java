@@ -0,0 +1,11 @@
+package com.isaque.admin.catalogo.domain.genre;
+
+import com.isaque.admin.catalogo.domain.pagination.Pagination;
+import com.isaque.admin.catalogo.domain.pagination.SearchQuery;
+
+public interface GenreViewGateway {
+    /**
+     * Same filters, sorts and cursors as {@link GenreGateway#findAll(SearchQuery)}.
+     */
+    Pagination<GenreView> findAll(SearchQuery query);
+}
@@ -0,0 +1,25 @@
+package com.isaque.admin.catalogo.domain.pagination;
+
+import com.isaque.admin.catalogo.domain.exceptions.DomainException;
+import com.isaque.admin.catalogo.domain.validation.Error;
+
+import java.util.Arrays;
+
+public enum CountStrategy {
+    EXACT,
+    ESTIMATED,
+    NONE;
+
+    /**
+     * @return {@code null} when no strategy was asked for, leaving the default to {@link SearchQuery}
+     */
+    public static CountStrategy from(final String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return Arrays.stream(values())
+                .filter(it -> it.name().equalsIgnoreCase(value.trim()))
+                .findFirst()
+                .orElseThrow(() -> DomainException.with(new Error("'count' must be one of exact, estimated or none")));
+    }
+}
@@ -1,16 +1,61 @@
 package com.isaque.admin.catalogo.domain.pagination;
 
+import java.util.AbstractList;
 import java.util.List;
+import java.util.RandomAccess;
 import java.util.function.Function;
 
 public record Pagination<T>(
         int currentPage,
         int perPage,
         long total,
-        List<T> items
+        boolean hasNext,
+        List<T> items,
+        String nextCursor,
+        String previousCursor
 ) {
+    public static final long UNKNOWN_TOTAL = -1;
+
+    public Pagination(
+            final int currentPage,
+            final int perPage,
+            final long total,
+            final List<T> items
+    ) {
+        this(currentPage, perPage, total, (long) (currentPage + 1) * perPage < total, items, null, null);
+    }
+
     public <R> Pagination<R> map(final Function<T, R> mapper){
         final List<R> newList = this.items.stream().map(mapper).toList();
-        return new Pagination<>(currentPage, perPage, total, newList);
+        return new Pagination<>(currentPage, perPage, total, hasNext, newList, nextCursor, previousCursor);
+    }
+
+    /**
+     * Like {@link #map}, but no new list is built: each item is mapped when it is read. Meant for a
+     * page that is walked once, such as a response body. Every mapped item is still allocated; what
+     * is saved is the list holding them all, so the page's mapped items need not be alive together.
+     */
+    public <R> Pagination<R> mapView(final Function<T, R> mapper) {
+        return new Pagination<>(currentPage, perPage, total, hasNext, new MappedList<>(items, mapper), nextCursor, previousCursor);
+    }
+
+    private static final class MappedList<T, R> extends AbstractList<R> implements RandomAccess {
+        private final List<T> source;
+        private final Function<T, R> mapper;
+
+        private MappedList(final List<T> source, final Function<T, R> mapper) {
+            this.source = source;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public R get(final int index) {
+            return mapper.apply(source.get(index));
+        }
+
+        @Override
+        public int size() {
+            return source.size();
+        }
     }
 }
@@ -5,6 +5,42 @@ public record SearchQuery(
         int perPage,
         String terms,
         String sort,
-        String direction
+        String direction,
+        String cursor,
+        CountStrategy count
 ) {
+    /**
+     * Without a {@code count}, only a page reached by offset is counted exactly: the client of a
+     * cursor page already has the total from the first one, so the COUNT is skipped.
+     */
+    public SearchQuery {
+        if (count == null) {
+            count = cursor != null && !cursor.isBlank() ? CountStrategy.NONE : CountStrategy.EXACT;
+        }
+    }
+
+    public SearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction
+    ) {
+        this(page, perPage, terms, sort, direction, null, null);
+    }
+
+    public SearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final String cursor
+    ) {
+        this(page, perPage, terms, sort, direction, cursor, null);
+    }
+
+    public boolean hasCursor() {
+        return cursor != null && !cursor.isBlank();
+    }
 }
@@ -0,0 +1,25 @@
+package com.isaque.admin.catalogo.domain.pagination;
+
+import com.isaque.admin.catalogo.domain.exceptions.DomainException;
+import com.isaque.admin.catalogo.domain.validation.Error;
+
+import java.util.Arrays;
+
+public enum SortDirection {
+    ASC,
+    DESC;
+
+    public static SortDirection from(final String value) {
+        if (value == null || value.isBlank()) {
+            return ASC;
+        }
+        return Arrays.stream(values())
+                .filter(it -> it.name().equalsIgnoreCase(value.trim()))
+                .findFirst()
+                .orElseThrow(() -> DomainException.with(new Error("'dir' must be one of asc or desc")));
+    }
+
+    public boolean isAscending() {
+        return this == ASC;
+    }
+}
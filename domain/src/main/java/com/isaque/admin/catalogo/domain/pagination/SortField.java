@@ -0,0 +1,16 @@
+package com.isaque.admin.catalogo.domain.pagination;
+
+/**
+ * A sort an aggregate accepts in {@link SearchQuery#sort()}, usually declared as an enum.
+ */
+public interface SortField {
+    /**
+     * The value clients send in the 'sort' parameter.
+     */
+    String key();
+
+    /**
+     * The aggregate property it orders by, which must be backed by an index ending in the id.
+     */
+    String property();
+}
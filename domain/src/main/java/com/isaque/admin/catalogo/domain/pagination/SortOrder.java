@@ -0,0 +1,38 @@
+package com.isaque.admin.catalogo.domain.pagination;
+
+import com.isaque.admin.catalogo.domain.exceptions.DomainException;
+import com.isaque.admin.catalogo.domain.validation.Error;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * A whitelisted sort: one of the aggregate's {@link SortField}s, always followed by the id so
+ * every row has a stable position.
+ */
+public record SortOrder(
+        SortField field,
+        SortDirection direction
+) {
+    public static final String TIE_BREAKER = "id";
+
+    public SortOrder {
+        Objects.requireNonNull(field, "'field' should not be null");
+        Objects.requireNonNull(direction, "'direction' should not be null");
+    }
+
+    public static SortOrder of(final SortField[] fields, final String sort, final String direction) {
+        final var field = Arrays.stream(fields)
+                .filter(it -> it.key().equals(sort))
+                .findFirst()
+                .orElseThrow(() -> DomainException.with(new Error("'sort' must be one of %s".formatted(
+                        Arrays.stream(fields).map(SortField::key).collect(Collectors.joining(", "))))));
+
+        return new SortOrder(field, SortDirection.from(direction));
+    }
+
+    public String property() {
+        return field.property();
+    }
+}
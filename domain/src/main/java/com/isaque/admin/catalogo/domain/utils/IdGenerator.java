@@ -0,0 +1,22 @@
+package com.isaque.admin.catalogo.domain.utils;
+
+import java.util.UUID;
+
+/**
+ * Strategy behind {@code CategoryID.unique()} and {@code GenreID.unique()}, chosen once at startup.
+ */
+public interface IdGenerator {
+    String TIME_ORDERED = "time-ordered";
+    String RANDOM = "random";
+
+    UUID next();
+
+    static IdGenerator from(final String name) {
+        return switch (name) {
+            case TIME_ORDERED -> new TimeOrderedIdGenerator();
+            case RANDOM -> new RandomIdGenerator();
+            default -> throw new IllegalArgumentException(
+                    "'%s' is not an id generator, use %s or %s".formatted(name, TIME_ORDERED, RANDOM));
+        };
+    }
+}
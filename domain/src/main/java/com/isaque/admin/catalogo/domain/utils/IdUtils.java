@@ -0,0 +1,20 @@
+package com.isaque.admin.catalogo.domain.utils;
+
+import java.util.Objects;
+import java.util.UUID;
+
+public final class IdUtils {
+    private static volatile IdGenerator generator = new TimeOrderedIdGenerator();
+
+    private IdUtils() {
+
+    }
+
+    public static UUID uuid() {
+        return generator.next();
+    }
+
+    public static void use(final IdGenerator idGenerator) {
+        generator = Objects.requireNonNull(idGenerator);
+    }
+}
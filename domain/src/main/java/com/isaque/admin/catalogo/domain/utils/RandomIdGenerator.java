@@ -0,0 +1,14 @@
+package com.isaque.admin.catalogo.domain.utils;
+
+import java.util.UUID;
+
+/**
+ * Version 4 UUIDs from {@link UUID#randomUUID()}: unpredictable, but every insert hits a random
+ * page of the primary key index.
+ */
+public class RandomIdGenerator implements IdGenerator {
+    @Override
+    public UUID next() {
+        return UUID.randomUUID();
+    }
+}
@@ -0,0 +1,42 @@
+package com.isaque.admin.catalogo.domain.utils;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version 7 UUIDs (RFC 9562) that never go backwards: 48 bits of epoch millis plus a 12 bit counter
+ * (method 1 of the RFC) advanced with a CAS, so ids generated in the same millisecond still sort in
+ * generation order. The remaining 62 bits come from {@link ThreadLocalRandom}, with no shared lock.
+ */
+public class TimeOrderedIdGenerator implements IdGenerator {
+    private static final int COUNTER_BITS = 12;
+
+    private final AtomicLong last = new AtomicLong();
+
+    @Override
+    public UUID next() {
+        final var tick = nextTick();
+        final var millis = tick >>> COUNTER_BITS;
+        final var counter = tick & 0x0FFFL;
+
+        final var msb = (millis << 16) | 0x7000L | counter;
+        final var lsb = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * Millis and counter packed together: a full counter simply carries into the next millisecond.
+     */
+    private long nextTick() {
+        final var now = System.currentTimeMillis() << COUNTER_BITS;
+        while (true) {
+            final var previous = this.last.get();
+            final var next = Math.max(now, previous + 1);
+            if (this.last.compareAndSet(previous, next)) {
+                return next;
+            }
+        }
+    }
+}
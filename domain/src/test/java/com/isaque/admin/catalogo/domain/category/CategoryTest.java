@@ -5,6 +5,9 @@ import com.isaque.admin.catalogo.domain.validation.handler.ThrowsValidationHandl
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
+import java.util.UUID;
+
 class CategoryTest {
     @Test
     void givenAValidName_whenCallNewCategory_thenInstantiateACategory() {
@@ -26,6 +29,15 @@ class CategoryTest {
         Assertions.assertNull(actualCategory.getDeletedAt());
     }
 
+    @Test
+    void givenAValidName_whenCallNewCategory_thenIdShouldBeAVersion7Uuid() {
+        final var actualId = UUID.fromString(Category.newCategory("Filmes", null, true).getId().getValue());
+
+        Assertions.assertEquals(7, actualId.version());
+        Assertions.assertEquals(2, actualId.variant());
+        Assertions.assertTrue(Math.abs(System.currentTimeMillis() - (actualId.getMostSignificantBits() >>> 16)) < 1_000);
+    }
+
     @Test
     void givenAnInvalidNullName_whenCallNewCategoryAndValidate_thenShouldReceiveAnError() {
         final String expectedName = null;
@@ -318,4 +330,55 @@ class CategoryTest {
         Assertions.assertTrue(actualCategory.getUpdatedAt().isAfter(updatedAt));
         Assertions.assertNull(actualCategory.getDeletedAt());
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenAValidCategory_whenCallDeactivateAndUpdate_thenShouldRegisterEventsInOrder() {
+        final var category = Category.newCategory("Filmes", null, true);
+        final var expectedId = category.getId().getValue();
+
+        category.deactivate();
+        category.update("Séries", "Nova descrição", true);
+
+        final var actualEvents = category.getDomainEvents();
+        Assertions.assertEquals(3, actualEvents.size());
+        Assertions.assertInstanceOf(CategoryCreated.class, actualEvents.get(0));
+        Assertions.assertInstanceOf(CategoryDeactivated.class, actualEvents.get(1));
+        final var actualUpdated = Assertions.assertInstanceOf(CategoryUpdated.class, actualEvents.get(2));
+        Assertions.assertEquals(expectedId, actualUpdated.aggregateId());
+        Assertions.assertEquals("Séries", actualUpdated.name());
+        Assertions.assertEquals("Nova descrição", actualUpdated.description());
+        Assertions.assertTrue(actualUpdated.active());
+        Assertions.assertEquals(category.getUpdatedAt(), actualUpdated.occurredOn());
+
+        category.clearDomainEvents();
+
+        Assertions.assertTrue(category.getDomainEvents().isEmpty());
+    }
+
+    @Test
+    void givenAValidParams_whenCallNewCategory_thenShouldRegisterCategoryCreated() {
+        final var actualCategory = Category.newCategory("Filmes", "A categoria mais assistida", false);
+
+        final var actualEvents = actualCategory.getDomainEvents();
+        Assertions.assertEquals(1, actualEvents.size());
+        Assertions.assertEquals(
+                new CategoryCreated(
+                        actualCategory.getId().getValue(),
+                        "Filmes",
+                        "A categoria mais assistida",
+                        false,
+                        actualCategory.getCreatedAt()
+                ),
+                actualEvents.get(0)
+        );
+    }
+
+    @Test
+    void givenAPersistedCategory_whenCallWith_thenShouldNotRegisterCategoryCreated() {
+        final var actualCategory = Category.with(
+                CategoryID.unique(), "Filmes", null, true, Instant.now(), Instant.now(), null, 1L
+        );
+
+        Assertions.assertTrue(actualCategory.getDomainEvents().isEmpty());
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 class GenreTest {
     @Test
@@ -415,4 +416,94 @@ class GenreTest {
         Assertions.assertEquals(actualUpdatedAt, actualGenre.getUpdatedAt());
         Assertions.assertNull(actualGenre.getDeletedAt());
     }
+
+    @Test
+    void givenAValidGenre_whenChangeCategories_thenShouldRegisterOneEventPerChange() {
+        final var seriesID = CategoryID.from("123");
+        final var moviesID = CategoryID.from("456");
+        final var actualGenre = Genre.newGenre("Ação", true);
+
+        actualGenre.addCategories(List.of(seriesID, moviesID));
+        actualGenre.removeCategory(seriesID);
+        actualGenre.removeCategory(CategoryID.from("789"));
+
+        final var actualEvents = actualGenre.getDomainEvents();
+        Assertions.assertEquals(4, actualEvents.size());
+        Assertions.assertEquals(
+                new GenreCreated(actualGenre.getId().getValue(), "Ação", true, actualGenre.getCreatedAt()),
+                actualEvents.get(0)
+        );
+        Assertions.assertEquals(
+                new GenreCategoryAdded(actualGenre.getId().getValue(), "123", actualEvents.get(1).occurredOn()),
+                actualEvents.get(1)
+        );
+        Assertions.assertEquals(
+                new GenreCategoryAdded(actualGenre.getId().getValue(), "456", actualEvents.get(2).occurredOn()),
+                actualEvents.get(2)
+        );
+        Assertions.assertEquals(
+                new GenreCategoryRemoved(actualGenre.getId().getValue(), "123", actualEvents.get(3).occurredOn()),
+                actualEvents.get(3)
+        );
+    }
+
+    @Test
+    void givenAGenreWithCategories_whenAddsThemAgain_thenShouldNotLinkTrackNorRegisterThem() {
+        final var seriesID = CategoryID.from("123");
+        final var moviesID = CategoryID.from("456");
+        final var loadedGenre = Genre.with(Genre.newGenre("Ação", true).addCategories(List.of(seriesID, moviesID)));
+        final var expectedUpdatedAt = loadedGenre.getUpdatedAt();
+
+        loadedGenre.addCategory(seriesID);
+        loadedGenre.addCategories(List.of(moviesID, seriesID));
+
+        Assertions.assertEquals(List.of(seriesID, moviesID), loadedGenre.getCategories());
+        Assertions.assertTrue(loadedGenre.getAddedCategories().isEmpty());
+        Assertions.assertTrue(loadedGenre.getDomainEvents().isEmpty());
+        Assertions.assertEquals(expectedUpdatedAt, loadedGenre.getUpdatedAt());
+    }
+
+    @Test
+    void givenADuplicatedList_whenCallAddCategories_thenShouldLinkEachCategoryOnce() {
+        final var seriesID = CategoryID.from("123");
+        final var actualGenre = Genre.newGenre("Ação", true);
+
+        actualGenre.addCategories(List.of(seriesID, seriesID));
+
+        Assertions.assertEquals(List.of(seriesID), actualGenre.getCategories());
+        Assertions.assertEquals(Set.of(seriesID), actualGenre.getAddedCategories());
+        Assertions.assertEquals(2, actualGenre.getDomainEvents().size());
+    }
+
+    @Test
+    void givenALoadedGenre_whenChangeCategories_thenShouldTrackOnlyTheNetDelta() {
+        final var seriesID = CategoryID.from("123");
+        final var moviesID = CategoryID.from("456");
+        final var documentariesID = CategoryID.from("789");
+        final var loadedGenre = Genre.with(Genre.newGenre("Ação", true).addCategories(List.of(seriesID, moviesID)));
+
+        Assertions.assertTrue(loadedGenre.getAddedCategories().isEmpty());
+        Assertions.assertTrue(loadedGenre.getRemovedCategories().isEmpty());
+
+        loadedGenre.addCategory(documentariesID);
+        loadedGenre.addCategory(moviesID);
+        loadedGenre.removeCategory(seriesID);
+        loadedGenre.removeCategory(documentariesID);
+
+        Assertions.assertEquals(Set.of(), loadedGenre.getAddedCategories());
+        Assertions.assertEquals(Set.of(seriesID), loadedGenre.getRemovedCategories());
+    }
+
+    @Test
+    void givenALoadedGenre_whenCallUpdateWithOtherCategories_thenShouldTrackAddedAndRemoved() {
+        final var seriesID = CategoryID.from("123");
+        final var moviesID = CategoryID.from("456");
+        final var documentariesID = CategoryID.from("789");
+        final var loadedGenre = Genre.with(Genre.newGenre("Ação", true).addCategories(List.of(seriesID, moviesID)));
+
+        loadedGenre.update("Ação", true, List.of(moviesID, documentariesID, documentariesID));
+
+        Assertions.assertEquals(Set.of(documentariesID), loadedGenre.getAddedCategories());
+        Assertions.assertEquals(Set.of(seriesID), loadedGenre.getRemovedCategories());
+    }
 }
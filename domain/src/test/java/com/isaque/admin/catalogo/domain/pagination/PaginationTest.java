@@ -0,0 +1,27 @@
+package com.isaque.admin.catalogo.domain.pagination;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class PaginationTest {
+
+    @Test
+    void givenAPage_whenCallsMapView_thenShouldMapEachItemOnlyWhenRead() {
+        final var page = new Pagination<>(0, 3, 10, List.of(1, 2, 3));
+        final var calls = new AtomicInteger();
+
+        final var actualPage = page.mapView(it -> {
+            calls.incrementAndGet();
+            return "item-" + it;
+        });
+
+        Assertions.assertEquals(0, calls.get());
+        Assertions.assertEquals(3, actualPage.items().size());
+        Assertions.assertEquals("item-2", actualPage.items().get(1));
+        Assertions.assertEquals(1, calls.get());
+        Assertions.assertEquals(page.map(it -> "item-" + it), actualPage);
+    }
+}
@@ -0,0 +1,55 @@
+package com.isaque.admin.catalogo.domain.pagination;
+
+import com.isaque.admin.catalogo.domain.category.CategorySortField;
+import com.isaque.admin.catalogo.domain.exceptions.DomainException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class SortOrderTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "name,asc,NAME,ASC",
+            "createdAt,DESC,CREATED_AT,DESC",
+            "updatedAt,,UPDATED_AT,ASC",
+    })
+    void givenAnAllowedSort_whenCallsOf_thenShouldResolveItsField(
+            final String sort,
+            final String direction,
+            final CategorySortField expectedField,
+            final SortDirection expectedDirection
+    ) {
+        final var actual = SortOrder.of(CategorySortField.values(), sort, direction);
+
+        Assertions.assertEquals(expectedField, actual.field());
+        Assertions.assertEquals(expectedDirection, actual.direction());
+        Assertions.assertEquals(expectedField.property(), actual.property());
+    }
+
+    @Test
+    void givenAnUnsupportedSort_whenCallsOf_thenShouldReceiveError() {
+        final var expectedErrorMessage = "'sort' must be one of name, createdAt, updatedAt";
+
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> SortOrder.of(CategorySortField.values(), "description", "asc")
+        );
+
+        Assertions.assertEquals(1, actualException.getErrors().size());
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    void givenAnInvalidDirection_whenCallsOf_thenShouldReceiveError() {
+        final var expectedErrorMessage = "'dir' must be one of asc or desc";
+
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> SortOrder.of(CategorySortField.values(), "name", "up")
+        );
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+}
@@ -0,0 +1,48 @@
+package com.isaque.admin.catalogo.domain.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+class TimeOrderedIdGeneratorTest {
+    private final TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator();
+
+    @Test
+    void givenManyIdsInTheSameMillisecond_whenCallsNext_thenShouldBeStrictlyIncreasing() {
+        var previous = generator.next();
+        for (int i = 0; i < 100_000; i++) {
+            final var actual = generator.next();
+            Assertions.assertTrue(previous.toString().compareTo(actual.toString()) < 0);
+            previous = actual;
+        }
+    }
+
+    @Test
+    void givenAnId_whenCallsNext_thenShouldBeAVersion7Uuid() {
+        final var actual = generator.next();
+
+        Assertions.assertEquals(7, actual.version());
+        Assertions.assertEquals(2, actual.variant());
+        Assertions.assertTrue(Math.abs(System.currentTimeMillis() - (actual.getMostSignificantBits() >>> 16)) < 1_000);
+    }
+
+    @Test
+    void givenConcurrentCallers_whenCallsNext_thenShouldNeverRepeat() {
+        final Set<UUID> actualIds = ConcurrentHashMap.newKeySet();
+
+        IntStream.range(0, 200_000).parallel().forEach(i -> actualIds.add(generator.next()));
+
+        Assertions.assertEquals(200_000, actualIds.size());
+    }
+
+    @Test
+    void givenAnUnknownName_whenCallsFrom_thenShouldThrowIllegalArgument() {
+        Assertions.assertInstanceOf(TimeOrderedIdGenerator.class, IdGenerator.from("time-ordered"));
+        Assertions.assertInstanceOf(RandomIdGenerator.class, IdGenerator.from("random"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> IdGenerator.from("snowflake"));
+    }
+}
@@ -1,6 +1,9 @@
 package com.isaque.admin.catalogo.infrastructure.api;
 
+import com.isaque.admin.catalogo.application.category.create.BulkCreateCategoryOutput;
 import com.isaque.admin.catalogo.domain.pagination.Pagination;
+import com.isaque.admin.catalogo.infrastructure.category.models.BatchGetCategoriesRequest;
+import com.isaque.admin.catalogo.infrastructure.category.models.BatchGetCategoriesResponse;
 import com.isaque.admin.catalogo.infrastructure.category.models.CategoryResponse;
 import com.isaque.admin.catalogo.infrastructure.category.models.CategoryListResponse;
 import com.isaque.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
@@ -8,6 +11,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -17,15 +21,21 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.util.List;
 
 @RestController
 @RequestMapping(value = "categories")
 @Tag(name = "Categories")
 public interface CategoryAPI {
+    String NDJSON_VALUE = "application/x-ndjson";
 
     @PostMapping(
             consumes = MediaType.APPLICATION_JSON_VALUE,
@@ -39,21 +49,60 @@ public interface CategoryAPI {
     })
     ResponseEntity<?> createCategory(@RequestBody CreateCategoryRequest input);
 
+    @PostMapping(
+            value = "bulk",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Create many categories from a JSON array")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Processed, with the result of each item"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    BulkCreateCategoryOutput createCategories(@RequestBody List<CreateCategoryRequest> input);
+
+    @PostMapping(
+            value = "bulk",
+            consumes = NDJSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Create many categories from newline delimited JSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Processed, with the result of each item"),
+            @ApiResponse(responseCode = "422", description = "A line is not valid JSON"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    BulkCreateCategoryOutput createCategoriesFromLines(InputStream input);
+
     @GetMapping
     @Operation(summary = "List all categories paginated")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "304", description = "The page did not change since its ETag"),
             @ApiResponse(responseCode = "422", description = "A invalid parameter was received"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
     })
-    Pagination<CategoryListResponse> listCategories(
+    ResponseEntity<Pagination<CategoryListResponse>> listCategories(
             @RequestParam(name = "search", required = false, defaultValue = "") final String search,
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "count", required = false) final String count
     );
 
+    @GetMapping(
+            value = "export",
+            produces = NDJSON_VALUE
+    )
+    @Operation(summary = "Stream every category as newline delimited JSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exported successfully"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<StreamingResponseBody> exportCategories();
+
     @GetMapping(
             value = "{id}",
             consumes = MediaType.APPLICATION_JSON_VALUE,
@@ -62,10 +111,24 @@ public interface CategoryAPI {
     @Operation(summary = "Get a category by it's identifier")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Category retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "The category did not change since its ETag"),
             @ApiResponse(responseCode = "404", description = "Category not found"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
     })
-    CategoryResponse getById(@PathVariable(name = "id") String id);
+    ResponseEntity<CategoryResponse> getById(@PathVariable(name = "id") String id);
+
+    @PostMapping(
+            value = "batch-get",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Get many categories by their identifiers, in the order asked")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Categories retrieved, with the ids not found"),
+            @ApiResponse(responseCode = "422", description = "Too many ids were asked"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    BatchGetCategoriesResponse getByIds(@RequestBody BatchGetCategoriesRequest input);
 
     @PutMapping(
             value = "{id}",
@@ -75,11 +138,15 @@ public interface CategoryAPI {
     @Operation(summary = "Update a category by it's identifier")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Category updated successfully"),
+            @ApiResponse(responseCode = "400", description = "If-Match is not an ETag"),
             @ApiResponse(responseCode = "404", description = "Category not found"),
+            @ApiResponse(responseCode = "409", description = "Category changed concurrently"),
+            @ApiResponse(responseCode = "412", description = "Category changed since the If-Match ETag"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
     })
     ResponseEntity<?> updateById(
             @PathVariable(name = "id") String id,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody CreateCategoryRequest input
     );
 
@@ -1,58 +1,90 @@
 package com.isaque.admin.catalogo.infrastructure.api.controllers;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.isaque.admin.catalogo.application.category.create.BulkCreateCategoryCommand;
+import com.isaque.admin.catalogo.application.category.create.BulkCreateCategoryOutput;
+import com.isaque.admin.catalogo.application.category.create.BulkCreateCategoryUseCase;
 import com.isaque.admin.catalogo.application.category.create.CreateCategoryCommand;
 import com.isaque.admin.catalogo.application.category.create.CreateCategoryOutput;
 import com.isaque.admin.catalogo.application.category.create.CreateCategoryUseCase;
 import com.isaque.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.isaque.admin.catalogo.application.category.retrive.export.ExportCategoriesUseCase;
+import com.isaque.admin.catalogo.application.category.retrive.get.GetCategoriesByIdsUseCase;
 import com.isaque.admin.catalogo.application.category.retrive.get.GetCategoryByIdUseCase;
+import com.isaque.admin.catalogo.application.category.retrive.list.CategoryListOutput;
 import com.isaque.admin.catalogo.application.category.retrive.list.ListCategoriesUseCase;
 import com.isaque.admin.catalogo.application.category.update.UpdateCategoryCommand;
 import com.isaque.admin.catalogo.application.category.update.UpdateCategoryOutput;
 import com.isaque.admin.catalogo.application.category.update.UpdateCategoryUseCase;
+import com.isaque.admin.catalogo.domain.exceptions.DomainException;
+import com.isaque.admin.catalogo.domain.pagination.CountStrategy;
 import com.isaque.admin.catalogo.domain.pagination.Pagination;
 import com.isaque.admin.catalogo.domain.pagination.SearchQuery;
+import com.isaque.admin.catalogo.domain.validation.Error;
 import com.isaque.admin.catalogo.domain.validation.handler.Notification;
 import com.isaque.admin.catalogo.infrastructure.api.CategoryAPI;
+import com.isaque.admin.catalogo.infrastructure.category.models.BatchGetCategoriesRequest;
+import com.isaque.admin.catalogo.infrastructure.category.models.BatchGetCategoriesResponse;
 import com.isaque.admin.catalogo.infrastructure.category.models.CategoryListResponse;
 import com.isaque.admin.catalogo.infrastructure.category.models.CategoryResponse;
 import com.isaque.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
 import com.isaque.admin.catalogo.infrastructure.category.presenters.CategoryApiPresenter;
+import com.isaque.admin.catalogo.infrastructure.configuration.json.Json;
+import com.isaque.admin.catalogo.infrastructure.utils.ETags;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 
 @RestController
 public class CategoryController implements CategoryAPI {
+    private static final ObjectMapper MAPPER = Json.mapper();
+    private static final ObjectReader LINE_READER = MAPPER.readerFor(CreateCategoryRequest.class);
+
     private final CreateCategoryUseCase createCategoryUseCase;
+    private final BulkCreateCategoryUseCase bulkCreateCategoryUseCase;
     private final GetCategoryByIdUseCase getCategoryByIdUseCase;
+    private final GetCategoriesByIdsUseCase getCategoriesByIdsUseCase;
     private final UpdateCategoryUseCase updateCategoryUseCase;
     private final DeleteCategoryUseCase deleteCategoryUseCase;
     private final ListCategoriesUseCase listCategoriesUseCase;
+    private final ExportCategoriesUseCase exportCategoriesUseCase;
 
     public CategoryController(
             final CreateCategoryUseCase createCategoryUseCase,
+            final BulkCreateCategoryUseCase bulkCreateCategoryUseCase,
             final GetCategoryByIdUseCase getCategoryByIdUseCase,
+            final GetCategoriesByIdsUseCase getCategoriesByIdsUseCase,
             final UpdateCategoryUseCase updateCategoryUseCase,
             final DeleteCategoryUseCase deleteCategoryUseCase,
-            final ListCategoriesUseCase listCategoriesUseCase
+            final ListCategoriesUseCase listCategoriesUseCase,
+            final ExportCategoriesUseCase exportCategoriesUseCase
     ) {
         this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
+        this.bulkCreateCategoryUseCase = Objects.requireNonNull(bulkCreateCategoryUseCase);
         this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
+        this.getCategoriesByIdsUseCase = Objects.requireNonNull(getCategoriesByIdsUseCase);
         this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
         this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
         this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+        this.exportCategoriesUseCase = Objects.requireNonNull(exportCategoriesUseCase);
     }
 
     @Override
     public ResponseEntity<?> createCategory(final CreateCategoryRequest input) {
-        final var command = CreateCategoryCommand.with(
-                input.name(),
-                input.description(),
-                input.active() != null ? input.active() : Boolean.TRUE
-        );
+        final var command = toCommand(input);
 
         final Function<Notification, ResponseEntity<?>> onError =
                 notification -> ResponseEntity.unprocessableEntity().body(notification);
@@ -64,29 +96,77 @@ public class CategoryController implements CategoryAPI {
     }
 
     @Override
-    public Pagination<CategoryListResponse> listCategories(
+    public BulkCreateCategoryOutput createCategories(final List<CreateCategoryRequest> input) {
+        final var commands = input.stream().map(CategoryController::toCommand).toList();
+        return this.bulkCreateCategoryUseCase.execute(BulkCreateCategoryCommand.with(commands));
+    }
+
+    @Override
+    public BulkCreateCategoryOutput createCategoriesFromLines(final InputStream input) {
+        final var commands = new ArrayList<CreateCategoryCommand>();
+        try (final MappingIterator<CreateCategoryRequest> lines = LINE_READER.readValues(input)) {
+            while (lines.hasNextValue()) {
+                commands.add(toCommand(lines.nextValue()));
+            }
+        } catch (final IOException e) {
+            throw DomainException.with(new Error("line %d is not valid JSON".formatted(commands.size() + 1)));
+        }
+        return this.bulkCreateCategoryUseCase.execute(BulkCreateCategoryCommand.with(commands));
+    }
+
+    @Override
+    public ResponseEntity<Pagination<CategoryListResponse>> listCategories(
             final String search,
             final int page,
             final int perPage,
             final String sort,
-            final String direction
+            final String direction,
+            final String cursor,
+            final String count
     ) {
-        return this.listCategoriesUseCase.execute(new SearchQuery(page, perPage, search, sort, direction))
-                .map(CategoryApiPresenter::present);
+        final var query = new SearchQuery(page, perPage, search, sort, direction, cursor, CountStrategy.from(count));
+        final var output = this.listCategoriesUseCase.execute(query);
+
+        return ResponseEntity.ok()
+                .eTag(ETags.of(output, CategoryListOutput::updatedAt))
+                .body(output.mapView(CategoryApiPresenter::present));
     }
 
     @Override
-    public CategoryResponse getById(final String id) {
-        return CategoryApiPresenter.present(this.getCategoryByIdUseCase.execute(id));
+    public ResponseEntity<StreamingResponseBody> exportCategories() {
+        final StreamingResponseBody body = output -> {
+            try (final var generator = MAPPER.getFactory().createGenerator(output)) {
+                this.exportCategoriesUseCase.execute(category -> writeLine(generator, CategoryApiPresenter.present(category)));
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON_VALUE))
+                .body(body);
     }
 
     @Override
-    public ResponseEntity<?> updateById(final String id, final CreateCategoryRequest input) {
+    public ResponseEntity<CategoryResponse> getById(final String id) {
+        final var output = this.getCategoryByIdUseCase.execute(id);
+
+        return ResponseEntity.ok()
+                .eTag(ETags.of(output.id().getValue(), output.version(), output.updatedAt()))
+                .body(CategoryApiPresenter.present(output));
+    }
+
+    @Override
+    public BatchGetCategoriesResponse getByIds(final BatchGetCategoriesRequest input) {
+        return CategoryApiPresenter.present(this.getCategoriesByIdsUseCase.execute(input.ids()));
+    }
+
+    @Override
+    public ResponseEntity<?> updateById(final String id, final String ifMatch, final CreateCategoryRequest input) {
         final var command = UpdateCategoryCommand.with(
                 id,
                 input.name(),
                 input.description(),
-                input.active() != null ? input.active() : Boolean.TRUE
+                input.active() != null ? input.active() : Boolean.TRUE,
+                ETags.versionOf(ifMatch, id)
         );
 
         final Function<Notification, ResponseEntity<?>> onError =
@@ -101,4 +181,21 @@ public class CategoryController implements CategoryAPI {
     public void deleteById(final String id) {
         this.deleteCategoryUseCase.execute(id);
     }
+
+    private static void writeLine(final JsonGenerator generator, final Object value) {
+        try {
+            generator.writeObject(value);
+            generator.writeRaw('\n');
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static CreateCategoryCommand toCommand(final CreateCategoryRequest input) {
+        return CreateCategoryCommand.with(
+                input.name(),
+                input.description(),
+                input.active() != null ? input.active() : Boolean.TRUE
+        );
+    }
 }
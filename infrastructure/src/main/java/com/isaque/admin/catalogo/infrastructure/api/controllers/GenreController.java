@@ -0,0 +1,99 @@
+package com.isaque.admin.catalogo.infrastructure.api.controllers;
+
+import com.isaque.admin.catalogo.application.genre.create.CreateGenreCommand;
+import com.isaque.admin.catalogo.application.genre.create.CreateGenreUseCase;
+import com.isaque.admin.catalogo.application.genre.delete.DeleteGenreUseCase;
+import com.isaque.admin.catalogo.application.genre.retrieve.get.GetGenreByIdUseCase;
+import com.isaque.admin.catalogo.application.genre.retrieve.list.GenreListOutput;
+import com.isaque.admin.catalogo.application.genre.retrieve.list.ListGenreUseCase;
+import com.isaque.admin.catalogo.application.genre.update.UpdateGenreCommand;
+import com.isaque.admin.catalogo.application.genre.update.UpdateGenreUseCase;
+import com.isaque.admin.catalogo.domain.pagination.CountStrategy;
+import com.isaque.admin.catalogo.domain.pagination.Pagination;
+import com.isaque.admin.catalogo.domain.pagination.SearchQuery;
+import com.isaque.admin.catalogo.infrastructure.api.GenreAPI;
+import com.isaque.admin.catalogo.infrastructure.genre.models.CreateGenreRequest;
+import com.isaque.admin.catalogo.infrastructure.genre.models.GenreListResponse;
+import com.isaque.admin.catalogo.infrastructure.genre.models.GenreResponse;
+import com.isaque.admin.catalogo.infrastructure.genre.models.UpdateGenreRequest;
+import com.isaque.admin.catalogo.infrastructure.genre.presenters.GenreApiPresenter;
+import com.isaque.admin.catalogo.infrastructure.utils.ETags;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+import java.util.Objects;
+
+@RestController
+public class GenreController implements GenreAPI {
+    private final CreateGenreUseCase createGenreUseCase;
+    private final GetGenreByIdUseCase getGenreByIdUseCase;
+    private final UpdateGenreUseCase updateGenreUseCase;
+    private final DeleteGenreUseCase deleteGenreUseCase;
+    private final ListGenreUseCase listGenreUseCase;
+
+    public GenreController(
+            final CreateGenreUseCase createGenreUseCase,
+            final GetGenreByIdUseCase getGenreByIdUseCase,
+            final UpdateGenreUseCase updateGenreUseCase,
+            final DeleteGenreUseCase deleteGenreUseCase,
+            final ListGenreUseCase listGenreUseCase
+    ) {
+        this.createGenreUseCase = Objects.requireNonNull(createGenreUseCase);
+        this.getGenreByIdUseCase = Objects.requireNonNull(getGenreByIdUseCase);
+        this.updateGenreUseCase = Objects.requireNonNull(updateGenreUseCase);
+        this.deleteGenreUseCase = Objects.requireNonNull(deleteGenreUseCase);
+        this.listGenreUseCase = Objects.requireNonNull(listGenreUseCase);
+    }
+
+    @Override
+    public ResponseEntity<?> createGenre(final CreateGenreRequest input) {
+        final var command = CreateGenreCommand.with(input.name(), input.active(), input.categories());
+        final var output = this.createGenreUseCase.execute(command);
+        return ResponseEntity.created(URI.create("/genres/" + output.id())).body(output);
+    }
+
+    @Override
+    public ResponseEntity<Pagination<GenreListResponse>> listGenres(
+            final String search,
+            final int page,
+            final int perPage,
+            final String sort,
+            final String direction,
+            final String cursor,
+            final String count
+    ) {
+        final var query = new SearchQuery(page, perPage, search, sort, direction, cursor, CountStrategy.from(count));
+        final var output = this.listGenreUseCase.execute(query);
+
+        return ResponseEntity.ok()
+                .eTag(ETags.of(output, GenreListOutput::updatedAt))
+                .body(output.mapView(GenreApiPresenter::present));
+    }
+
+    @Override
+    public ResponseEntity<GenreResponse> getById(final String id) {
+        final var output = this.getGenreByIdUseCase.execute(id);
+
+        return ResponseEntity.ok()
+                .eTag(ETags.of(output.id(), output.version(), output.updatedAt()))
+                .body(GenreApiPresenter.present(output));
+    }
+
+    @Override
+    public ResponseEntity<?> updateById(final String id, final String ifMatch, final UpdateGenreRequest input) {
+        final var command = UpdateGenreCommand.with(
+                id,
+                input.name(),
+                input.active(),
+                input.categories(),
+                ETags.versionOf(ifMatch, id)
+        );
+        return ResponseEntity.ok(this.updateGenreUseCase.execute(command));
+    }
+
+    @Override
+    public void deleteById(final String id) {
+        this.deleteGenreUseCase.execute(id);
+    }
+}
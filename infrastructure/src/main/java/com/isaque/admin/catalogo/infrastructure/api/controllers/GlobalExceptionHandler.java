@@ -1,8 +1,11 @@
 package com.isaque.admin.catalogo.infrastructure.api.controllers;
 
+import com.isaque.admin.catalogo.domain.exceptions.ConflictException;
 import com.isaque.admin.catalogo.domain.exceptions.DomainException;
 import com.isaque.admin.catalogo.domain.exceptions.NotFoundException;
+import com.isaque.admin.catalogo.domain.exceptions.PreconditionFailedException;
 import com.isaque.admin.catalogo.domain.validation.Error;
+import com.isaque.admin.catalogo.infrastructure.utils.InvalidETagException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -17,6 +20,21 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiError.from(ex));
     }
 
+    @ExceptionHandler(value = {ConflictException.class})
+    public ResponseEntity<?> handleConflictException(final DomainException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiError.from(ex));
+    }
+
+    @ExceptionHandler(value = {PreconditionFailedException.class})
+    public ResponseEntity<?> handlePreconditionFailedException(final DomainException ex) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(ApiError.from(ex));
+    }
+
+    @ExceptionHandler(value = {InvalidETagException.class})
+    public ResponseEntity<?> handleInvalidETagException(final DomainException ex) {
+        return ResponseEntity.badRequest().body(ApiError.from(ex));
+    }
+
     @ExceptionHandler(value = {DomainException.class})
     public ResponseEntity<?> handleDomainException(final DomainException ex) {
         return ResponseEntity.unprocessableEntity().body(ApiError.from(ex));
@@ -0,0 +1,35 @@
+package com.isaque.admin.catalogo.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.isaque.admin.catalogo.domain.Identifier;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Read-through cache of aggregates by id. Aggregates are mutable, so entries are stored and handed
+ * out as copies: a use case changing the aggregate it loaded never touches the cached instance.
+ */
+public class AggregateCache<ID extends Identifier, A> {
+  private final Cache<ID, A> cache;
+  private final UnaryOperator<A> copy;
+
+  AggregateCache(final Cache<ID, A> cache, final UnaryOperator<A> copy) {
+    this.cache = Objects.requireNonNull(cache);
+    this.copy = Objects.requireNonNull(copy);
+  }
+
+  /**
+   * Missing aggregates are not cached, so a later create is visible right away.
+   */
+  public Optional<A> get(final ID id, final Function<ID, Optional<A>> loader) {
+    final var cached = this.cache.get(id, key -> loader.apply(key).map(this.copy).orElse(null));
+    return Optional.ofNullable(cached).map(this.copy);
+  }
+
+  public void invalidate(final ID id) {
+    this.cache.invalidate(id);
+  }
+}
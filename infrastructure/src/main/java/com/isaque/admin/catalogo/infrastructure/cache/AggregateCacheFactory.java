@@ -0,0 +1,61 @@
+package com.isaque.admin.catalogo.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.isaque.admin.catalogo.domain.Identifier;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.UnaryOperator;
+
+/**
+ * Builds size- and TTL-bounded Caffeine caches (W-TinyLFU eviction) and publishes their hit, miss
+ * and eviction counts as {@code cache.*} metrics tagged with the cache name.
+ */
+@Component
+public class AggregateCacheFactory {
+  private final long maximumSize;
+  private final Duration expireAfterWrite;
+  private final ObjectProvider<MeterRegistry> meterRegistry;
+
+  public AggregateCacheFactory(
+      @Value("${cache.aggregates.maximum-size:10000}") final long maximumSize,
+      @Value("${cache.aggregates.expire-after-write:30s}") final Duration expireAfterWrite,
+      final ObjectProvider<MeterRegistry> meterRegistry
+  ) {
+    this.maximumSize = maximumSize;
+    this.expireAfterWrite = expireAfterWrite;
+    this.meterRegistry = meterRegistry;
+  }
+
+  public <ID extends Identifier, A> AggregateCache<ID, A> create(final String name, final UnaryOperator<A> copy) {
+    final var cache = Caffeine.newBuilder()
+        .maximumSize(this.maximumSize)
+        .expireAfterWrite(this.expireAfterWrite)
+        .recordStats()
+        .<ID, A>build();
+
+    this.meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, name));
+
+    return new AggregateCache<>(cache, copy);
+  }
+
+  /**
+   * Same bounds as the aggregate caches: a stale entry lives at most {@code expire-after-write},
+   * since other instances do not update it.
+   */
+  public <ID extends Identifier> ExistenceCache<ID> createExistence(final String name) {
+    final var cache = Caffeine.newBuilder()
+        .maximumSize(this.maximumSize)
+        .expireAfterWrite(this.expireAfterWrite)
+        .recordStats()
+        .<ID, Boolean>build();
+
+    this.meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, name));
+
+    return new ExistenceCache<>(cache);
+  }
+}
@@ -0,0 +1,60 @@
+package com.isaque.admin.catalogo.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.isaque.admin.catalogo.domain.Identifier;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Remembers which ids are known to exist, so repeated existence checks skip the database. Only ids
+ * not known to exist are passed on to the loader, in a single call. Misses are never remembered: a
+ * row created on another instance would read as missing until the entry expired.
+ */
+public class ExistenceCache<ID extends Identifier> {
+  private final Cache<ID, Boolean> cache;
+
+  ExistenceCache(final Cache<ID, Boolean> cache) {
+    this.cache = Objects.requireNonNull(cache);
+  }
+
+  /**
+   * @param loader answers which of the given ids exist
+   * @return the existing ids, in the order of {@code ids}, without repetitions
+   */
+  public List<ID> existing(final Iterable<ID> ids, final Function<List<ID>, List<ID>> loader) {
+    final var asked = new LinkedHashSet<ID>();
+    ids.forEach(asked::add);
+
+    final var known = this.cache.getAllPresent(asked);
+    final var unknown = new ArrayList<ID>();
+    for (final var id : asked) {
+      if (!known.containsKey(id)) {
+        unknown.add(id);
+      }
+    }
+
+    final var loaded = unknown.isEmpty() ? new HashSet<ID>() : new HashSet<>(loader.apply(unknown));
+    loaded.forEach(id -> this.cache.put(id, Boolean.TRUE));
+
+    final var existing = new ArrayList<ID>(asked.size());
+    for (final var id : asked) {
+      if (known.containsKey(id) || loaded.contains(id)) {
+        existing.add(id);
+      }
+    }
+    return existing;
+  }
+
+  public void markExisting(final ID id) {
+    this.cache.put(id, Boolean.TRUE);
+  }
+
+  public void markMissing(final ID id) {
+    this.cache.invalidate(id);
+  }
+}
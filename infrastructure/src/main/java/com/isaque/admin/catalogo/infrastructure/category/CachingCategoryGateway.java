@@ -0,0 +1,100 @@
+package com.isaque.admin.catalogo.infrastructure.category;
+
+import com.isaque.admin.catalogo.domain.category.Category;
+import com.isaque.admin.catalogo.domain.category.CategoryGateway;
+import com.isaque.admin.catalogo.domain.category.CategoryID;
+import com.isaque.admin.catalogo.domain.pagination.Pagination;
+import com.isaque.admin.catalogo.domain.pagination.SearchQuery;
+import com.isaque.admin.catalogo.infrastructure.cache.AggregateCache;
+import com.isaque.admin.catalogo.infrastructure.cache.ExistenceCache;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Serves {@link #findById} from a read-through cache; writes go to the delegate and evict the entry.
+ * {@link #existsByIds} only asks the delegate about ids whose existence is not already known.
+ */
+public class CachingCategoryGateway implements CategoryGateway {
+  private final CategoryGateway delegate;
+  private final AggregateCache<CategoryID, Category> cache;
+  private final ExistenceCache<CategoryID> existence;
+
+  public CachingCategoryGateway(
+      final CategoryGateway delegate,
+      final AggregateCache<CategoryID, Category> cache,
+      final ExistenceCache<CategoryID> existence
+  ) {
+    this.delegate = Objects.requireNonNull(delegate);
+    this.cache = Objects.requireNonNull(cache);
+    this.existence = Objects.requireNonNull(existence);
+  }
+
+  @Override
+  public Category create(final Category category) {
+    final var created = this.delegate.create(category);
+    this.cache.invalidate(created.getId());
+    this.existence.markExisting(created.getId());
+    return created;
+  }
+
+  @Override
+  public List<Category> createAll(final List<Category> categories) {
+    final var created = this.delegate.createAll(categories);
+    created.forEach(it -> this.existence.markExisting(it.getId()));
+    return created;
+  }
+
+  @Override
+  public void deleteById(final CategoryID id) {
+    this.delegate.deleteById(id);
+    this.cache.invalidate(id);
+    this.existence.markMissing(id);
+  }
+
+  @Override
+  public Optional<Category> findById(final CategoryID id) {
+    return this.cache.get(id, this.delegate::findById);
+  }
+
+  @Override
+  public List<Category> findAllByIds(final Iterable<CategoryID> ids) {
+    return this.delegate.findAllByIds(ids);
+  }
+
+  @Override
+  public Category update(final Category category) {
+    try {
+      return this.delegate.update(category);
+    } finally {
+      // also on a version conflict, which usually means the cached copy is stale
+      this.cache.invalidate(category.getId());
+    }
+  }
+
+  @Override
+  public Category update(final Category category, final Long expectedVersion) {
+    try {
+      return this.delegate.update(category, expectedVersion);
+    } finally {
+      this.cache.invalidate(category.getId());
+    }
+  }
+
+  @Override
+  public Pagination<Category> findAll(final SearchQuery query) {
+    return this.delegate.findAll(query);
+  }
+
+  @Override
+  public List<CategoryID> existsByIds(final Iterable<CategoryID> ids) {
+    return this.existence.existing(ids, this.delegate::existsByIds);
+  }
+
+  @Override
+  public void forEach(final Consumer<Category> action) {
+    this.delegate.forEach(action);
+  }
+}
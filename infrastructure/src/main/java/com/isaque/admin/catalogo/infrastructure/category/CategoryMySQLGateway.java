@@ -1,92 +1,248 @@
 package com.isaque.admin.catalogo.infrastructure.category;
 
 import com.isaque.admin.catalogo.domain.category.Category;
+import com.isaque.admin.catalogo.domain.category.CategoryDeleted;
 import com.isaque.admin.catalogo.domain.category.CategoryGateway;
 import com.isaque.admin.catalogo.domain.category.CategoryID;
+import com.isaque.admin.catalogo.domain.category.CategorySearchIndex;
+import com.isaque.admin.catalogo.domain.category.CategorySortField;
+import com.isaque.admin.catalogo.domain.exceptions.ConflictException;
+import com.isaque.admin.catalogo.domain.exceptions.NotFoundException;
+import com.isaque.admin.catalogo.domain.exceptions.PreconditionFailedException;
 import com.isaque.admin.catalogo.domain.pagination.Pagination;
 import com.isaque.admin.catalogo.domain.pagination.SearchQuery;
+import com.isaque.admin.catalogo.domain.utils.InstantUtils;
 import com.isaque.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
 import com.isaque.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.isaque.admin.catalogo.infrastructure.genre.GenreViewProjector;
+import com.isaque.admin.catalogo.infrastructure.outbox.Outbox;
+import com.isaque.admin.catalogo.infrastructure.utils.BinaryUuidConverter;
+import com.isaque.admin.catalogo.infrastructure.utils.InClauseExecutor;
+import com.isaque.admin.catalogo.infrastructure.utils.PaginationUtils;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.StreamSupport;
 
+import static com.isaque.admin.catalogo.infrastructure.utils.BinaryUuidConverter.isValid;
+import static com.isaque.admin.catalogo.infrastructure.utils.SpecificationUtils.isFullTextSearchable;
 import static com.isaque.admin.catalogo.infrastructure.utils.SpecificationUtils.like;
+import static com.isaque.admin.catalogo.infrastructure.utils.SpecificationUtils.match;
 
 @Component
 public class CategoryMySQLGateway implements CategoryGateway {
+  private static final int BATCH_SIZE = 500;
+  private static final int EXPORT_CHUNK_SIZE = 1_000;
+  private static final String FIRST_ID = new UUID(0, 0).toString();
   private final CategoryRepository repository;
-
-  public CategoryMySQLGateway(final CategoryRepository repository) {
+  private final EntityManager entityManager;
+  private final CategorySearchIndex searchIndex;
+  private final Outbox outbox;
+  private final GenreViewProjector genreViews;
+  private final InClauseExecutor inClause;
+  private final boolean fullTextSearch;
+
+  public CategoryMySQLGateway(
+      final CategoryRepository repository,
+      final EntityManager entityManager,
+      final CategorySearchIndex searchIndex,
+      final Outbox outbox,
+      final GenreViewProjector genreViews,
+      final InClauseExecutor inClause,
+      @Value("${search.full-text:false}") final boolean fullTextSearch
+  ) {
     this.repository = repository;
+    this.entityManager = entityManager;
+    this.searchIndex = searchIndex;
+    this.outbox = outbox;
+    this.genreViews = genreViews;
+    this.inClause = inClause;
+    this.fullTextSearch = fullTextSearch;
   }
 
   @Override
+  @Transactional
   public Category create(final Category category) {
-    return save(category);
+    return save(category, CategoryJpaEntity.from(category));
+  }
+
+  /**
+   * Persists instead of merging, so no select is issued per id, and flushes every {@link #BATCH_SIZE}
+   * rows so Hibernate sends them as one JDBC batch (see hibernate.jdbc.batch_size). Their
+   * CategoryCreated events go to the outbox in the same transaction.
+   */
+  @Override
+  @Transactional
+  public List<Category> createAll(final List<Category> categories) {
+    for (int i = 0; i < categories.size(); i++) {
+      this.entityManager.persist(CategoryJpaEntity.from(categories.get(i)));
+      if ((i + 1) % BATCH_SIZE == 0) {
+        this.entityManager.flush();
+        this.entityManager.clear();
+      }
+    }
+    this.outbox.appendAll(categories);
+    this.entityManager.flush();
+    this.entityManager.clear();
+
+    categories.forEach(this.searchIndex::index);
+    return categories;
   }
 
   @Override
+  @Transactional
   public void deleteById(final CategoryID id) {
     final var idValue = id.getValue();
-    if (this.repository.existsById(idValue)) {
+    if (isValid(idValue) && this.repository.existsById(idValue)) {
+      this.genreViews.removeCategory(id);
       this.repository.deleteById(idValue);
+      this.outbox.append(Category.class, new CategoryDeleted(idValue, InstantUtils.now()));
     }
+    this.searchIndex.remove(id);
   }
 
   @Override
   public Optional<Category> findById(final CategoryID id) {
-    return this.repository.findById(id.getValue()).map(CategoryJpaEntity::toAggregate);
+    return Optional.of(id.getValue())
+        .filter(BinaryUuidConverter::isValid)
+        .flatMap(this.repository::findById)
+        .map(CategoryJpaEntity::toAggregate);
   }
 
+  /**
+   * Chunked by {@link InClauseExecutor}, so a large request stays far from max_allowed_packet;
+   * ids that are not UUIDs cannot exist and are skipped.
+   */
   @Override
+  @Transactional(readOnly = true)
+  public List<Category> findAllByIds(final Iterable<CategoryID> categoryIds) {
+    return this.inClause.execute(validIds(categoryIds), this.repository::findAllById).stream()
+        .map(CategoryJpaEntity::toAggregate)
+        .toList();
+  }
+
+  @Override
+  @Transactional
   public Category update(final Category category) {
-    return save(category);
+    return update(category, null);
   }
 
+  /**
+   * The category must carry the version it was loaded with; the write is checked against it and
+   * never against a version re-read here, which would let a lost update through. An
+   * {@code expectedVersion} is compared with the stored row instead, and when it matches the write
+   * is based on it, even if the category was loaded from an older cached copy: every column is
+   * replaced anyway. Genre views are rewritten only when the name changed.
+   */
   @Override
-  public Pagination<Category> findAll(final SearchQuery query) {
-    final var page = PageRequest.of(
-        query.page(),
-        query.perPage(),
-        Sort.by(Direction.fromString(query.direction()), query.sort()));
+  @Transactional
+  public Category update(final Category category, final Long expectedVersion) {
+    final var loadedVersion = Objects.requireNonNull(
+        category.getVersion(), "'version' of the category to update should not be null");
+    final var stored = this.entityManager.find(CategoryJpaEntity.class, category.getId().getValue());
+    if (stored == null) {
+      throw NotFoundException.with(Category.class, category.getId());
+    }
+    if (expectedVersion != null && !expectedVersion.equals(stored.getVersion())) {
+      throw PreconditionFailedException.with(Category.class, category.getId());
+    }
+
+    final var previousName = stored.getName();
+    final var entity = CategoryJpaEntity.from(category);
+    entity.setVersion(expectedVersion != null ? expectedVersion : loadedVersion);
+    final var saved = save(category, entity);
+    if (!Objects.equals(previousName, saved.getName())) {
+      this.genreViews.renameCategory(saved.getId(), saved.getName());
+    }
+    return saved;
+  }
 
+  @Override
+  public Pagination<Category> findAll(final SearchQuery query) {
     final var specifications = Optional.ofNullable(query.terms())
         .filter(str -> !str.isBlank())
-        .map(this::assembleSpecification)
+        .map(terms -> assembleSpecification(terms, !query.hasCursor()))
         .orElse(null);
 
-    final var pageResult = this.repository.findAll(Specification.where(specifications), page);
+    return PaginationUtils.findAll(
+        this.entityManager, CategoryJpaEntity.class, specifications, query, CategorySortField.values())
+        .map(CategoryJpaEntity::toAggregate);
+  }
 
-    return new Pagination<>(
-        pageResult.getNumber(),
-        pageResult.getSize(),
-        pageResult.getTotalElements(),
-        pageResult.map(CategoryJpaEntity::toAggregate).toList()
-    );
+  /**
+   * Walks the table in keyset pages of {@link #EXPORT_CHUNK_SIZE} ids, each read by its own short
+   * repository transaction: no connection is held while the action handles a page, which for an
+   * export is a client downloading at its own pace.
+   */
+  @Override
+  public void forEach(final Consumer<Category> action) {
+    var lastId = FIRST_ID;
+    List<CategoryJpaEntity> chunk;
+    do {
+      chunk = this.repository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, EXPORT_CHUNK_SIZE));
+      chunk.forEach(entity -> action.accept(entity.toAggregate()));
+      if (!chunk.isEmpty()) {
+        lastId = chunk.getLast().getId();
+      }
+    } while (chunk.size() == EXPORT_CHUNK_SIZE);
   }
 
+  /**
+   * Outside a transaction the chunks may run in parallel (persistence.in-clause.parallelism).
+   */
   @Override
   public List<CategoryID> existsByIds(final Iterable<CategoryID> categoryIds) {
-    final var ids = StreamSupport.stream(categoryIds.spliterator(), false)
-        .map(CategoryID::getValue)
-        .toList();
-    return this.repository.existsByIds(ids).stream()
+    return this.inClause.execute(validIds(categoryIds), this.repository::existsByIds).stream()
         .map(CategoryID::from)
         .toList();
   }
 
-  private Category save(final Category category) {
-    return this.repository.save(CategoryJpaEntity.from(category)).toAggregate();
+  /**
+   * Writes only if the stored version is still the one the aggregate was loaded with (@Version);
+   * its pending events go to the outbox in the same transaction.
+   */
+  private Category save(final Category category, final CategoryJpaEntity entity) {
+    final Category saved;
+    try {
+      saved = this.repository.saveAndFlush(entity).toAggregate();
+    } catch (final OptimisticLockingFailureException e) {
+      throw ConflictException.with(Category.class, CategoryID.from(entity.getId()));
+    }
+    this.outbox.append(category);
+    this.searchIndex.index(saved);
+    return saved;
   }
 
-  private Specification<CategoryJpaEntity> assembleSpecification(final String str) {
+  private static List<String> validIds(final Iterable<CategoryID> categoryIds) {
+    return StreamSupport.stream(categoryIds.spliterator(), false)
+        .map(CategoryID::getValue)
+        .filter(BinaryUuidConverter::isValid)
+        .distinct()
+        .toList();
+  }
+
+  private Specification<CategoryJpaEntity> assembleSpecification(final String str, final boolean ranked) {
+    return searchSpecification(str, ranked, this.fullTextSearch);
+  }
+
+  static Specification<CategoryJpaEntity> searchSpecification(
+      final String str,
+      final boolean ranked,
+      final boolean fullTextSearch
+  ) {
+    if (fullTextSearch && isFullTextSearchable(str)) {
+      return match(str, ranked, "name", "description");
+    }
     final Specification<CategoryJpaEntity> nameLike = like("name", str);
     final Specification<CategoryJpaEntity> descriptionLike = like("description", str);
     return nameLike.or(descriptionLike);
@@ -0,0 +1,50 @@
+package com.isaque.admin.catalogo.infrastructure.category;
+
+import com.isaque.admin.catalogo.domain.category.CategorySortField;
+import com.isaque.admin.catalogo.domain.category.CategoryView;
+import com.isaque.admin.catalogo.domain.category.CategoryViewGateway;
+import com.isaque.admin.catalogo.domain.pagination.Pagination;
+import com.isaque.admin.catalogo.domain.pagination.SearchQuery;
+import com.isaque.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.isaque.admin.catalogo.infrastructure.category.persistence.CategoryViewRow;
+import com.isaque.admin.catalogo.infrastructure.utils.PaginationUtils;
+import com.isaque.admin.catalogo.infrastructure.utils.PaginationUtils.Projection;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Lists categories as rows projected from the categories table: nothing enters the persistence
+ * context and no aggregate is validated.
+ */
+@Component
+public class CategoryViewMySQLGateway implements CategoryViewGateway {
+  private static final Projection<CategoryJpaEntity, CategoryViewRow> ROW =
+      Projection.of(CategoryJpaEntity.class, CategoryViewRow.class);
+
+  private final EntityManager entityManager;
+  private final boolean fullTextSearch;
+
+  public CategoryViewMySQLGateway(
+      final EntityManager entityManager,
+      @Value("${search.full-text:false}") final boolean fullTextSearch
+  ) {
+    this.entityManager = Objects.requireNonNull(entityManager);
+    this.fullTextSearch = fullTextSearch;
+  }
+
+  @Override
+  public Pagination<CategoryView> findAll(final SearchQuery query) {
+    final var where = Optional.ofNullable(query.terms())
+        .filter(str -> !str.isBlank())
+        .map(terms -> CategoryMySQLGateway.searchSpecification(terms, !query.hasCursor(), this.fullTextSearch))
+        .orElse(null);
+
+    return PaginationUtils.findAll(
+        this.entityManager, CategoryJpaEntity.class, ROW, where, query, CategorySortField.values())
+        .map(CategoryViewRow::toView);
+  }
+}
@@ -0,0 +1,10 @@
+package com.isaque.admin.catalogo.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record BatchGetCategoriesRequest(
+        @JsonProperty("ids") List<String> ids
+) {
+}
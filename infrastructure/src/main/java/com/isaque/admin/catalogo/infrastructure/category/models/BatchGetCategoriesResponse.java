@@ -0,0 +1,11 @@
+package com.isaque.admin.catalogo.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record BatchGetCategoriesResponse(
+        @JsonProperty("items") List<CategoryResponse> items,
+        @JsonProperty("missing") List<String> missing
+) {
+}
@@ -2,10 +2,13 @@ package com.isaque.admin.catalogo.infrastructure.category.persistence;
 
 import com.isaque.admin.catalogo.domain.category.Category;
 import com.isaque.admin.catalogo.domain.category.CategoryID;
+import com.isaque.admin.catalogo.infrastructure.utils.BinaryUuidConverter;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 import java.time.Instant;
 
@@ -13,6 +16,8 @@ import java.time.Instant;
 @Table(name = "categories")
 public class CategoryJpaEntity {
   @Id
+  @Convert(converter = BinaryUuidConverter.class)
+  @Column(name = "id", nullable = false, columnDefinition = "BINARY(16)")
   private String id;
   @Column(name = "name", nullable = false)
   private String name;
@@ -26,6 +31,9 @@ public class CategoryJpaEntity {
   private Instant updatedAt;
   @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
   private Instant deletedAt;
+  @Version
+  @Column(name = "version", nullable = false)
+  private Long version;
 
   public CategoryJpaEntity() {
   }
@@ -36,7 +44,9 @@ public class CategoryJpaEntity {
       final String description,
       final boolean active,
       final Instant createdAt,
-      final Instant updatedAt, final Instant deletedAt) {
+      final Instant updatedAt,
+      final Instant deletedAt,
+      final Long version) {
     this.id = id;
     this.name = name;
     this.description = description;
@@ -44,6 +54,7 @@ public class CategoryJpaEntity {
     this.createdAt = createdAt;
     this.updatedAt = updatedAt;
     this.deletedAt = deletedAt;
+    this.version = version;
   }
 
   public static CategoryJpaEntity from(final Category category) {
@@ -54,7 +65,8 @@ public class CategoryJpaEntity {
         category.isActive(),
         category.getCreatedAt(),
         category.getUpdatedAt(),
-        category.getDeletedAt()
+        category.getDeletedAt(),
+        category.getVersion()
     );
   }
 
@@ -66,7 +78,8 @@ public class CategoryJpaEntity {
         isActive(),
         getCreatedAt(),
         getUpdatedAt(),
-        getDeletedAt()
+        getDeletedAt(),
+        getVersion()
     );
   }
 
@@ -125,4 +138,12 @@ public class CategoryJpaEntity {
   public void setDeletedAt(Instant deletedAt) {
     this.deletedAt = deletedAt;
   }
+
+  public Long getVersion() {
+    return version;
+  }
+
+  public void setVersion(Long version) {
+    this.version = version;
+  }
 }
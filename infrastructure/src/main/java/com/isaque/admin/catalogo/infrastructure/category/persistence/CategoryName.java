@@ -0,0 +1,10 @@
+package com.isaque.admin.catalogo.infrastructure.category.persistence;
+
+/**
+ * Id and name only, for readers that denormalize category names.
+ */
+public interface CategoryName {
+  String getId();
+
+  String getName();
+}
@@ -1,20 +1,32 @@
 package com.isaque.admin.catalogo.infrastructure.category.persistence;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String> {
   Page<CategoryJpaEntity> findAll(Specification<CategoryJpaEntity> whereClause, Pageable page);
 
+  List<CategoryJpaEntity> findByIdGreaterThanOrderByIdAsc(String id, Pageable page);
 
   @Query(value = "select c.id from Category c where c.id in :ids")
   List<String> existsByIds(@Param("ids") List<String> ids);
+
+  /**
+   * A shared lock (FOR SHARE on MySQL) so the names are read as committed and cannot be renamed
+   * until the reading transaction ends.
+   */
+  @Lock(LockModeType.PESSIMISTIC_READ)
+  @Query(value = "select c.id as id, c.name as name from Category c where c.id in :ids")
+  List<CategoryName> findNamesByIdsForShare(@Param("ids") Collection<String> ids);
 }
 
 
@@ -0,0 +1,32 @@
+package com.isaque.admin.catalogo.infrastructure.category.persistence;
+
+import com.isaque.admin.catalogo.domain.category.CategoryID;
+import com.isaque.admin.catalogo.domain.category.CategoryView;
+
+import java.time.Instant;
+
+/**
+ * Columns of {@link CategoryJpaEntity} a listing needs, selected through this constructor; the
+ * version is left out.
+ */
+public record CategoryViewRow(
+    String id,
+    String name,
+    String description,
+    boolean active,
+    Instant createdAt,
+    Instant updatedAt,
+    Instant deletedAt
+) {
+  public CategoryView toView() {
+    return new CategoryView(
+        CategoryID.from(this.id),
+        this.name,
+        this.description,
+        this.active,
+        this.createdAt,
+        this.updatedAt,
+        this.deletedAt
+    );
+  }
+}
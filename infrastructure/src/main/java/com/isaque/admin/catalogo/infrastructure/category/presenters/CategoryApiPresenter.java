@@ -1,7 +1,9 @@
 package com.isaque.admin.catalogo.infrastructure.category.presenters;
 
+import com.isaque.admin.catalogo.application.category.retrive.get.CategoriesByIdsOutput;
 import com.isaque.admin.catalogo.application.category.retrive.get.CategoryOutput;
 import com.isaque.admin.catalogo.application.category.retrive.list.CategoryListOutput;
+import com.isaque.admin.catalogo.infrastructure.category.models.BatchGetCategoriesResponse;
 import com.isaque.admin.catalogo.infrastructure.category.models.CategoryResponse;
 import com.isaque.admin.catalogo.infrastructure.category.models.CategoryListResponse;
 
@@ -18,6 +20,13 @@ public interface CategoryApiPresenter {
         );
     }
 
+    static BatchGetCategoriesResponse present(final CategoriesByIdsOutput output) {
+        return new BatchGetCategoriesResponse(
+                output.items().stream().map(CategoryApiPresenter::present).toList(),
+                output.missing()
+        );
+    }
+
     static CategoryListResponse present(final CategoryListOutput output) {
         return new CategoryListResponse(
                 output.id().getValue(),
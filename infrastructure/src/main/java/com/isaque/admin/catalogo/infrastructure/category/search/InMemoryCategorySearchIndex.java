@@ -0,0 +1,371 @@
+package com.isaque.admin.catalogo.infrastructure.category.search;
+
+import com.isaque.admin.catalogo.domain.category.Category;
+import com.isaque.admin.catalogo.domain.category.CategoryID;
+import com.isaque.admin.catalogo.domain.category.CategorySearchIndex;
+import com.isaque.admin.catalogo.domain.category.CategorySortField;
+import com.isaque.admin.catalogo.domain.pagination.Pagination;
+import com.isaque.admin.catalogo.domain.pagination.SearchQuery;
+import com.isaque.admin.catalogo.domain.pagination.SortField;
+import com.isaque.admin.catalogo.domain.pagination.SortOrder;
+import com.isaque.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.isaque.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.Normalizer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Inverted index over category name and description, kept in the heap so autocomplete searches
+ * never reach MySQL.
+ * <p>
+ * Each token contributes its trigrams, which narrow substring searches like the
+ * {@code LIKE '%term%'} fallback does. Candidates are verified against the full term, so results
+ * match that fallback. A term without a word of three characters has nothing to narrow by and is
+ * left to the database. Documents hold the columns of a listed category, so pages are built here.
+ * <p>
+ * Writes reach the index once their transaction commits, so a rolled back write leaves no trace.
+ * The index is only current for writes made through this instance's gateway, so it is disabled
+ * unless {@code search.in-memory-index} is set.
+ */
+@Component
+public class InMemoryCategorySearchIndex implements CategorySearchIndex {
+  private static final Logger LOG = LoggerFactory.getLogger(InMemoryCategorySearchIndex.class);
+
+  private static final int GRAM_SIZE = 3;
+  private static final int CHUNK_SIZE = 1_000;
+  private static final String FIRST_ID = new UUID(0, 0).toString();
+  private static final int COMPACTION_THRESHOLD = 10_000;
+  private static final Pattern MARKS = Pattern.compile("\\p{M}");
+  private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+  private static final Comparator<Document> BY_ID = Comparator.comparing(it -> it.id().getValue());
+  private static final Map<SortField, Comparator<Document>> SORTS = Map.of(
+      CategorySortField.NAME, Comparator.comparing(Document::name, String.CASE_INSENSITIVE_ORDER),
+      CategorySortField.CREATED_AT, Comparator.comparing(Document::createdAt),
+      CategorySortField.UPDATED_AT, Comparator.comparing(Document::updatedAt)
+  );
+
+  private final CategoryRepository repository;
+  private final boolean enabled;
+
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Map<String, IntPostings> postings = new HashMap<>();
+  private final Map<CategoryID, Integer> documentIds = new HashMap<>();
+  private final Set<CategoryID> removedWhileLoading = new HashSet<>();
+  private Document[] documents = new Document[CHUNK_SIZE];
+  private int nextDocumentId;
+  private int tombstones;
+  private volatile boolean ready;
+
+  public InMemoryCategorySearchIndex(
+      final CategoryRepository repository,
+      @Value("${search.in-memory-index:false}") final boolean enabled
+  ) {
+    this.repository = Objects.requireNonNull(repository);
+    this.enabled = enabled;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void load() {
+    if (!this.enabled) {
+      return;
+    }
+    Thread.ofPlatform()
+        .name("category-search-index-loader")
+        .daemon()
+        .start(this::loadAll);
+  }
+
+  @Override
+  public Optional<Pagination<Category>> search(final SearchQuery query) {
+    final var order = SortOrder.of(CategorySortField.values(), query.sort(), query.direction());
+    if (!this.ready || query.hasCursor() || query.terms() == null) {
+      return Optional.empty();
+    }
+
+    final var term = normalize(query.terms()).trim();
+    final var words = tokens(term);
+    if (words.stream().allMatch(word -> word.length() < GRAM_SIZE)) {
+      return Optional.empty();
+    }
+
+    final var matches = read(() -> match(term, words));
+
+    final var sort = SORTS.get(order.field()).thenComparing(BY_ID);
+    matches.sort(order.direction().isAscending() ? sort : sort.reversed());
+
+    final var from = Math.min((long) query.page() * query.perPage(), matches.size());
+    final var to = Math.min(from + query.perPage(), matches.size());
+    final var items = matches.subList((int) from, (int) to).stream()
+        .map(Document::toAggregate)
+        .toList();
+
+    return Optional.of(new Pagination<>(query.page(), query.perPage(), matches.size(), items));
+  }
+
+  @Override
+  public void index(final Category category) {
+    if (!this.enabled) {
+      return;
+    }
+    final var document = Document.of(category);
+    afterCommit(() -> write(() -> {
+      delete(document.id());
+      add(document);
+      compactIfNeeded();
+    }));
+  }
+
+  @Override
+  public void remove(final CategoryID id) {
+    if (!this.enabled) {
+      return;
+    }
+    afterCommit(() -> write(() -> {
+      delete(id);
+      if (!this.ready) {
+        this.removedWhileLoading.add(id);
+      }
+      compactIfNeeded();
+    }));
+  }
+
+  void loadAll() {
+    final var start = System.nanoTime();
+    var lastId = FIRST_ID;
+    List<CategoryJpaEntity> chunk;
+    do {
+      chunk = this.repository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, CHUNK_SIZE));
+      final var categories = chunk.stream().map(CategoryJpaEntity::toAggregate).toList();
+      write(() -> categories.forEach(this::addIfAbsent));
+      if (!chunk.isEmpty()) {
+        lastId = chunk.getLast().getId();
+      }
+    } while (chunk.size() == CHUNK_SIZE);
+
+    write(() -> {
+      this.removedWhileLoading.clear();
+      this.ready = true;
+    });
+    LOG.info("Category search index loaded {} documents in {} ms",
+        this.documentIds.size(), (System.nanoTime() - start) / 1_000_000);
+  }
+
+  /**
+   * Rows streamed by the loader may be older than writes the gateway indexed meanwhile, so they
+   * never replace a document nor resurrect a removed one.
+   */
+  private void addIfAbsent(final Category category) {
+    final var id = category.getId();
+    if (!this.documentIds.containsKey(id) && !this.removedWhileLoading.contains(id)) {
+      add(category);
+    }
+  }
+
+  private void add(final Category category) {
+    add(Document.of(category));
+  }
+
+  private void add(final Document document) {
+    final var documentId = this.nextDocumentId++;
+    if (documentId == this.documents.length) {
+      this.documents = Arrays.copyOf(this.documents, documentId + (documentId >> 1));
+    }
+    this.documents[documentId] = document;
+    this.documentIds.put(document.id(), documentId);
+
+    for (final var key : keysOf(document)) {
+      this.postings.computeIfAbsent(key, k -> new IntPostings()).add(documentId);
+    }
+  }
+
+  private void delete(final CategoryID id) {
+    final var documentId = this.documentIds.remove(id);
+    if (documentId != null) {
+      this.documents[documentId] = null;
+      this.tombstones++;
+    }
+  }
+
+  /**
+   * Deletes only tombstone documents; their postings are dropped by rebuilding once they make up
+   * half of the index.
+   */
+  private void compactIfNeeded() {
+    if (this.tombstones < COMPACTION_THRESHOLD || this.tombstones * 2 < this.nextDocumentId) {
+      return;
+    }
+    final var live = Arrays.stream(this.documents, 0, this.nextDocumentId)
+        .filter(Objects::nonNull)
+        .toList();
+
+    this.postings.clear();
+    this.documentIds.clear();
+    this.documents = new Document[Math.max(CHUNK_SIZE, live.size())];
+    this.nextDocumentId = 0;
+    this.tombstones = 0;
+    live.forEach(this::add);
+  }
+
+  /**
+   * Words shorter than a trigram add no keys; they are still checked when verifying the full term.
+   */
+  private List<Document> match(final String term, final List<String> words) {
+    final var lists = new ArrayList<IntPostings>();
+    for (final var word : words) {
+      for (final var key : queryKeysOf(word)) {
+        final var list = this.postings.get(key);
+        if (list == null) {
+          return new ArrayList<>();
+        }
+        lists.add(list);
+      }
+    }
+
+    lists.sort(Comparator.comparingInt(IntPostings::size));
+
+    var candidates = lists.getFirst();
+    for (var i = 1; i < lists.size() && candidates.size() > 0; i++) {
+      candidates = candidates.intersect(lists.get(i));
+    }
+
+    final var matches = new ArrayList<Document>();
+    candidates.forEach(documentId -> {
+      final var document = this.documents[documentId];
+      if (document != null && document.contains(term)) {
+        matches.add(document);
+      }
+    });
+    return matches;
+  }
+
+  private static Set<String> keysOf(final Document document) {
+    final var keys = new HashSet<String>();
+    final var text = document.description() != null
+        ? document.name() + " " + document.description()
+        : document.name();
+
+    for (final var token : tokens(normalize(text))) {
+      for (var i = 0; i + GRAM_SIZE <= token.length(); i++) {
+        keys.add(token.substring(i, i + GRAM_SIZE));
+      }
+    }
+    return keys;
+  }
+
+  private static Set<String> queryKeysOf(final String word) {
+    final var keys = new LinkedHashSet<String>();
+    for (var i = 0; i + GRAM_SIZE <= word.length(); i++) {
+      keys.add(word.substring(i, i + GRAM_SIZE));
+    }
+    return keys;
+  }
+
+  private static List<String> tokens(final String text) {
+    return Arrays.stream(NON_WORD.split(text))
+        .filter(token -> !token.isEmpty())
+        .toList();
+  }
+
+  private static String normalize(final String text) {
+    final var decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+    return MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * The columns a listed category shows; the normalized text is only derived while indexing and
+   * verifying, so it is not kept.
+   */
+  private record Document(
+      CategoryID id,
+      String name,
+      String description,
+      boolean active,
+      Instant createdAt,
+      Instant updatedAt,
+      Instant deletedAt
+  ) {
+    static Document of(final Category category) {
+      return new Document(
+          category.getId(),
+          category.getName(),
+          category.getDescription(),
+          category.isActive(),
+          category.getCreatedAt(),
+          category.getUpdatedAt(),
+          category.getDeletedAt()
+      );
+    }
+
+    boolean contains(final String term) {
+      return normalize(this.name).contains(term)
+          || (this.description != null && normalize(this.description).contains(term));
+    }
+
+    /**
+     * Carries no version: a listed category is not meant to be updated.
+     */
+    Category toAggregate() {
+      return Category.with(id, name, description, active, createdAt, updatedAt, deletedAt, null);
+    }
+  }
+
+  /**
+   * Runs right away when there is no transaction to wait for.
+   */
+  private static void afterCommit(final Runnable runnable) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      runnable.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        runnable.run();
+      }
+    });
+  }
+
+  private <T> T read(final Supplier<T> supplier) {
+    this.lock.readLock().lock();
+    try {
+      return supplier.get();
+    } finally {
+      this.lock.readLock().unlock();
+    }
+  }
+
+  private void write(final Runnable runnable) {
+    this.lock.writeLock().lock();
+    try {
+      runnable.run();
+    } finally {
+      this.lock.writeLock().unlock();
+    }
+  }
+}
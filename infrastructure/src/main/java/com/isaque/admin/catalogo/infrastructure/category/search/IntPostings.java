@@ -0,0 +1,69 @@
+package com.isaque.admin.catalogo.infrastructure.category.search;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Growable, ascending list of document ids backed by a primitive {@code int[]}, so a posting costs
+ * four bytes instead of a boxed Integer plus a list slot.
+ */
+final class IntPostings {
+  private static final int INITIAL_CAPACITY = 4;
+
+  private int[] ids;
+  private int size;
+
+  IntPostings() {
+    this(new int[INITIAL_CAPACITY], 0);
+  }
+
+  private IntPostings(final int[] ids, final int size) {
+    this.ids = ids;
+    this.size = size;
+  }
+
+  /**
+   * Ids are handed out in increasing order, so appending keeps the list sorted; a repeated id
+   * (the same gram twice in a document) is ignored.
+   */
+  void add(final int id) {
+    if (size > 0 && ids[size - 1] == id) {
+      return;
+    }
+    if (size == ids.length) {
+      ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+    }
+    ids[size++] = id;
+  }
+
+  int size() {
+    return size;
+  }
+
+  IntPostings intersect(final IntPostings other) {
+    final var result = new int[Math.min(size, other.size)];
+    var count = 0;
+    var i = 0;
+    var j = 0;
+    while (i < size && j < other.size) {
+      final var left = ids[i];
+      final var right = other.ids[j];
+      if (left == right) {
+        result[count++] = left;
+        i++;
+        j++;
+      } else if (left < right) {
+        i++;
+      } else {
+        j++;
+      }
+    }
+    return new IntPostings(result, count);
+  }
+
+  void forEach(final IntConsumer consumer) {
+    for (var i = 0; i < size; i++) {
+      consumer.accept(ids[i]);
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package com.isaque.admin.catalogo.infrastructure.configuration;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Lets at most {@code permits} connections be checked out at once. Extra callers park on a fair
+ * semaphore, which is cheap for virtual threads, instead of hitting the pool's short timeout.
+ */
+public class BoundedDataSource extends DelegatingDataSource {
+  private final Semaphore permits;
+  private final Duration timeout;
+
+  public BoundedDataSource(final DataSource target, final int permits, final Duration timeout) {
+    super(target);
+    this.permits = new Semaphore(permits, true);
+    this.timeout = timeout;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    acquire();
+    try {
+      return bounded(super.getConnection());
+    } catch (final SQLException | RuntimeException e) {
+      this.permits.release();
+      throw e;
+    }
+  }
+
+  @Override
+  public Connection getConnection(final String username, final String password) throws SQLException {
+    acquire();
+    try {
+      return bounded(super.getConnection(username, password));
+    } catch (final SQLException | RuntimeException e) {
+      this.permits.release();
+      throw e;
+    }
+  }
+
+  public int availablePermits() {
+    return this.permits.availablePermits();
+  }
+
+  private void acquire() throws SQLException {
+    try {
+      if (!this.permits.tryAcquire(this.timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+        throw new SQLTransientConnectionException(
+            "Timed out after %dms waiting for a database permit".formatted(this.timeout.toMillis()));
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLTransientConnectionException("Interrupted while waiting for a database permit", e);
+    }
+  }
+
+  private Connection bounded(final Connection connection) {
+    final var released = new AtomicBoolean();
+    return (Connection) Proxy.newProxyInstance(
+        Connection.class.getClassLoader(),
+        new Class<?>[]{Connection.class},
+        (proxy, method, args) -> {
+          try {
+            return method.invoke(connection, args);
+          } catch (final InvocationTargetException e) {
+            throw e.getCause();
+          } finally {
+            if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+              this.permits.release();
+            }
+          }
+        }
+    );
+  }
+}
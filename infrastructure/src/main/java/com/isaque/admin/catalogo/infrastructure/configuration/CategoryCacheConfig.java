@@ -0,0 +1,27 @@
+package com.isaque.admin.catalogo.infrastructure.configuration;
+
+import com.isaque.admin.catalogo.domain.category.Category;
+import com.isaque.admin.catalogo.domain.category.CategoryID;
+import com.isaque.admin.catalogo.infrastructure.cache.AggregateCache;
+import com.isaque.admin.catalogo.infrastructure.cache.AggregateCacheFactory;
+import com.isaque.admin.catalogo.infrastructure.cache.ExistenceCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * One instance of each category cache, shared by every {@code CachingCategoryGateway}: category
+ * writes keep current the existence checks made by the genre use cases.
+ */
+@Configuration(proxyBeanMethods = false)
+public class CategoryCacheConfig {
+
+  @Bean
+  public AggregateCache<CategoryID, Category> categoryCache(final AggregateCacheFactory cacheFactory) {
+    return cacheFactory.create("categories", Category::with);
+  }
+
+  @Bean
+  public ExistenceCache<CategoryID> categoryExistenceCache(final AggregateCacheFactory cacheFactory) {
+    return cacheFactory.createExistence("category-existence");
+  }
+}
@@ -0,0 +1,27 @@
+package com.isaque.admin.catalogo.infrastructure.configuration;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Exposes MySQL's {@code MATCH ... AGAINST} to JPQL and Criteria queries, so full-text searches
+ * can be composed as regular Specifications. Only usable against the FULLTEXT indexes created by
+ * the {@code db/vendor/mysql} migrations.
+ */
+public class FullTextFunctionContributor implements FunctionContributor {
+  public static final String MATCH_AGAINST = "match_against";
+  public static final String MATCH2_AGAINST = "match2_against";
+
+  @Override
+  public void contributeFunctions(final FunctionContributions functions) {
+    final var score = functions.getTypeConfiguration()
+        .getBasicTypeRegistry()
+        .resolve(StandardBasicTypes.DOUBLE);
+
+    functions.getFunctionRegistry()
+        .registerPattern(MATCH_AGAINST, "match(?1) against (?2 in boolean mode)", score);
+    functions.getFunctionRegistry()
+        .registerPattern(MATCH2_AGAINST, "match(?1, ?2) against (?3 in boolean mode)", score);
+  }
+}
@@ -0,0 +1,17 @@
+package com.isaque.admin.catalogo.infrastructure.configuration;
+
+import com.isaque.admin.catalogo.domain.utils.IdGenerator;
+import com.isaque.admin.catalogo.domain.utils.IdUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Aggregate ids are created by static factories in the domain, so the strategy is installed
+ * globally instead of being injected.
+ */
+@Configuration(proxyBeanMethods = false)
+public class IdGeneratorConfig {
+    public IdGeneratorConfig(@Value("${ids.generator:time-ordered}") final String generator) {
+        IdUtils.use(IdGenerator.from(generator));
+    }
+}
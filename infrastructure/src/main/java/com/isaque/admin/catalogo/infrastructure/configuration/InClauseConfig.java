@@ -0,0 +1,23 @@
+package com.isaque.admin.catalogo.infrastructure.configuration;
+
+import com.isaque.admin.catalogo.infrastructure.utils.InClauseExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration(proxyBeanMethods = false)
+public class InClauseConfig {
+
+  @Bean
+  public InClauseExecutor inClauseExecutor(
+      final PlatformTransactionManager transactionManager,
+      @Value("${persistence.in-clause.chunk-size:1024}") final int chunkSize,
+      @Value("${persistence.in-clause.parallelism:1}") final int parallelism
+  ) {
+    final var readOnly = new TransactionTemplate(transactionManager);
+    readOnly.setReadOnly(true);
+    return new InClauseExecutor(chunkSize, parallelism, readOnly);
+  }
+}
@@ -0,0 +1,38 @@
+package com.isaque.admin.catalogo.infrastructure.configuration;
+
+import com.isaque.admin.catalogo.infrastructure.outbox.FileOutboxPublisher;
+import com.isaque.admin.catalogo.infrastructure.outbox.InMemoryOutboxPublisher;
+import com.isaque.admin.catalogo.infrastructure.outbox.OutboxPublisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.nio.file.Path;
+
+/**
+ * Picks the {@link OutboxPublisher} from {@code outbox.publisher}; a broker-backed publisher only
+ * needs another bean here.
+ */
+@Configuration(proxyBeanMethods = false)
+public class OutboxConfig {
+
+  @Bean
+  @ConditionalOnProperty(name = "outbox.publisher", havingValue = "in-memory", matchIfMissing = true)
+  public OutboxPublisher inMemoryOutboxPublisher(@Value("${outbox.in-memory.capacity:10000}") final int capacity) {
+    return new InMemoryOutboxPublisher(capacity);
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "outbox.publisher", havingValue = "file")
+  public OutboxPublisher fileOutboxPublisher(@Value("${outbox.file.path:outbox-events.ndjson}") final Path path) {
+    return new FileOutboxPublisher(path);
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @EnableScheduling
+  @ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+  static class RelayScheduling {
+  }
+}
@@ -0,0 +1,46 @@
+package com.isaque.admin.catalogo.infrastructure.configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.embedded.undertow.UndertowDeploymentInfoCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * Active with {@code spring.threads.virtual.enabled=true}. Spring Boot only switches Tomcat and Jetty
+ * to virtual threads, so Undertow servlet dispatch (and the use cases it runs) is moved here, and the
+ * pool is guarded by {@link BoundedDataSource} since request concurrency is no longer capped by workers.
+ * <p>
+ * Off by default: it has not been measured against the worker pool yet. {@code load-tests/categories.js}
+ * is the comparison to run before turning it on.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+  @Bean
+  public UndertowDeploymentInfoCustomizer virtualThreadDeploymentCustomizer() {
+    return deploymentInfo -> deploymentInfo.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+  }
+
+  @Bean
+  public static BeanPostProcessor boundedDataSourcePostProcessor(
+      @Value("${datasource.permit-timeout:10s}") final Duration permitTimeout
+  ) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        if (bean instanceof HikariDataSource hikari) {
+          return new BoundedDataSource(hikari, hikari.getMaximumPoolSize(), permitTimeout);
+        }
+        return bean;
+      }
+    };
+  }
+}
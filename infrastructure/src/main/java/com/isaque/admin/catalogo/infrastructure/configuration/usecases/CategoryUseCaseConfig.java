@@ -1,25 +1,52 @@
 package com.isaque.admin.catalogo.infrastructure.configuration.usecases;
 
+import com.isaque.admin.catalogo.application.category.create.BulkCreateCategoryUseCase;
 import com.isaque.admin.catalogo.application.category.create.CreateCategoryUseCase;
+import com.isaque.admin.catalogo.application.category.create.DefaultBulkCreateCategoryUseCase;
 import com.isaque.admin.catalogo.application.category.create.DefaultCreateCategoryUseCase;
 import com.isaque.admin.catalogo.application.category.delete.DefaultDeleteCategoryUseCase;
 import com.isaque.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.isaque.admin.catalogo.application.category.retrive.export.DefaultExportCategoriesUseCase;
+import com.isaque.admin.catalogo.application.category.retrive.export.ExportCategoriesUseCase;
+import com.isaque.admin.catalogo.application.category.retrive.get.DefaultGetCategoriesByIdsUseCase;
 import com.isaque.admin.catalogo.application.category.retrive.get.DefaultGetCategoryByIdUseCase;
+import com.isaque.admin.catalogo.application.category.retrive.get.GetCategoriesByIdsUseCase;
 import com.isaque.admin.catalogo.application.category.retrive.get.GetCategoryByIdUseCase;
 import com.isaque.admin.catalogo.application.category.retrive.list.DefaultListCategoriesUseCase;
 import com.isaque.admin.catalogo.application.category.retrive.list.ListCategoriesUseCase;
 import com.isaque.admin.catalogo.application.category.update.DefaultUpdateCategoryUseCase;
 import com.isaque.admin.catalogo.application.category.update.UpdateCategoryUseCase;
+import com.isaque.admin.catalogo.domain.category.Category;
 import com.isaque.admin.catalogo.domain.category.CategoryGateway;
+import com.isaque.admin.catalogo.domain.category.CategoryID;
+import com.isaque.admin.catalogo.domain.category.CategorySearchIndex;
+import com.isaque.admin.catalogo.domain.category.CategoryViewGateway;
+import com.isaque.admin.catalogo.infrastructure.cache.AggregateCache;
+import com.isaque.admin.catalogo.infrastructure.cache.ExistenceCache;
+import com.isaque.admin.catalogo.infrastructure.category.CachingCategoryGateway;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class CategoryUseCaseConfig {
     private final CategoryGateway categoryGateway;
+    private final CategoryViewGateway categoryViewGateway;
+    private final CategorySearchIndex categorySearchIndex;
 
-    public CategoryUseCaseConfig(final CategoryGateway categoryGateway) {
-        this.categoryGateway = categoryGateway;
+    public CategoryUseCaseConfig(
+            final CategoryGateway categoryGateway,
+            final CategoryViewGateway categoryViewGateway,
+            final CategorySearchIndex categorySearchIndex,
+            final AggregateCache<CategoryID, Category> categoryCache,
+            final ExistenceCache<CategoryID> categoryExistenceCache
+    ) {
+        this.categoryGateway = new CachingCategoryGateway(
+                categoryGateway,
+                categoryCache,
+                categoryExistenceCache
+        );
+        this.categoryViewGateway = categoryViewGateway;
+        this.categorySearchIndex = categorySearchIndex;
     }
 
     @Bean
@@ -27,6 +54,11 @@ public class CategoryUseCaseConfig {
         return new DefaultCreateCategoryUseCase(categoryGateway);
     }
 
+    @Bean
+    public BulkCreateCategoryUseCase bulkCreateCategoryUseCase() {
+        return new DefaultBulkCreateCategoryUseCase(categoryGateway);
+    }
+
     @Bean
     public UpdateCategoryUseCase updateCategoryUseCase() {
         return new DefaultUpdateCategoryUseCase(categoryGateway);
@@ -37,9 +69,19 @@ public class CategoryUseCaseConfig {
         return new DefaultGetCategoryByIdUseCase(categoryGateway);
     }
 
+    @Bean
+    public GetCategoriesByIdsUseCase getCategoriesByIdsUseCase() {
+        return new DefaultGetCategoriesByIdsUseCase(categoryGateway);
+    }
+
     @Bean
     public ListCategoriesUseCase listCategoriesUseCase  () {
-        return new DefaultListCategoriesUseCase(categoryGateway);
+        return new DefaultListCategoriesUseCase(categoryViewGateway, categorySearchIndex);
+    }
+
+    @Bean
+    public ExportCategoriesUseCase exportCategoriesUseCase() {
+        return new DefaultExportCategoriesUseCase(categoryGateway);
     }
 
     @Bean
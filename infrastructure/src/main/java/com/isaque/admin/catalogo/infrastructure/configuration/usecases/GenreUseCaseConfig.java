@@ -10,8 +10,17 @@ import com.isaque.admin.catalogo.application.genre.retrieve.list.DefaultListGenr
 import com.isaque.admin.catalogo.application.genre.retrieve.list.ListGenreUseCase;
 import com.isaque.admin.catalogo.application.genre.update.DefaultUpdateGenreUseCase;
 import com.isaque.admin.catalogo.application.genre.update.UpdateGenreUseCase;
+import com.isaque.admin.catalogo.domain.category.Category;
 import com.isaque.admin.catalogo.domain.category.CategoryGateway;
+import com.isaque.admin.catalogo.domain.category.CategoryID;
+import com.isaque.admin.catalogo.domain.genre.Genre;
 import com.isaque.admin.catalogo.domain.genre.GenreGateway;
+import com.isaque.admin.catalogo.domain.genre.GenreViewGateway;
+import com.isaque.admin.catalogo.infrastructure.cache.AggregateCache;
+import com.isaque.admin.catalogo.infrastructure.cache.AggregateCacheFactory;
+import com.isaque.admin.catalogo.infrastructure.cache.ExistenceCache;
+import com.isaque.admin.catalogo.infrastructure.category.CachingCategoryGateway;
+import com.isaque.admin.catalogo.infrastructure.genre.CachingGenreGateway;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -21,13 +30,26 @@ import java.util.Objects;
 public class GenreUseCaseConfig {
   private final CategoryGateway categoryGateway;
   private final GenreGateway genreGateway;
+  private final GenreViewGateway genreViewGateway;
 
   public GenreUseCaseConfig(
       final CategoryGateway categoryGateway,
-      final GenreGateway genreGateway
+      final GenreGateway genreGateway,
+      final GenreViewGateway genreViewGateway,
+      final AggregateCacheFactory cacheFactory,
+      final AggregateCache<CategoryID, Category> categoryCache,
+      final ExistenceCache<CategoryID> categoryExistenceCache
   ) {
-    this.categoryGateway = Objects.requireNonNull(categoryGateway);
-    this.genreGateway = Objects.requireNonNull(genreGateway);
+    this.categoryGateway = new CachingCategoryGateway(
+        Objects.requireNonNull(categoryGateway),
+        categoryCache,
+        categoryExistenceCache
+    );
+    this.genreGateway = new CachingGenreGateway(
+        Objects.requireNonNull(genreGateway),
+        cacheFactory.create("genres", Genre::with)
+    );
+    this.genreViewGateway = Objects.requireNonNull(genreViewGateway);
   }
 
   @Bean
@@ -50,7 +72,7 @@ public class GenreUseCaseConfig {
 
   @Bean
   public ListGenreUseCase listGenreUseCase() {
-    return new DefaultListGenreUseCase(genreGateway);
+    return new DefaultListGenreUseCase(genreViewGateway);
   }
 
   @Bean
@@ -0,0 +1,69 @@
+package com.isaque.admin.catalogo.infrastructure.genre;
+
+import com.isaque.admin.catalogo.domain.genre.Genre;
+import com.isaque.admin.catalogo.domain.genre.GenreGateway;
+import com.isaque.admin.catalogo.domain.genre.GenreID;
+import com.isaque.admin.catalogo.domain.pagination.Pagination;
+import com.isaque.admin.catalogo.domain.pagination.SearchQuery;
+import com.isaque.admin.catalogo.infrastructure.cache.AggregateCache;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Serves {@link #findById} from a read-through cache; writes go to the delegate and evict the entry.
+ */
+public class CachingGenreGateway implements GenreGateway {
+  private final GenreGateway delegate;
+  private final AggregateCache<GenreID, Genre> cache;
+
+  public CachingGenreGateway(
+      final GenreGateway delegate,
+      final AggregateCache<GenreID, Genre> cache
+  ) {
+    this.delegate = Objects.requireNonNull(delegate);
+    this.cache = Objects.requireNonNull(cache);
+  }
+
+  @Override
+  public Genre create(final Genre genre) {
+    final var created = this.delegate.create(genre);
+    this.cache.invalidate(created.getId());
+    return created;
+  }
+
+  @Override
+  public void deleteById(final GenreID id) {
+    this.delegate.deleteById(id);
+    this.cache.invalidate(id);
+  }
+
+  @Override
+  public Optional<Genre> findById(final GenreID id) {
+    return this.cache.get(id, this.delegate::findById);
+  }
+
+  @Override
+  public Genre update(final Genre genre) {
+    try {
+      return this.delegate.update(genre);
+    } finally {
+      // also on a version conflict, which usually means the cached copy is stale
+      this.cache.invalidate(genre.getId());
+    }
+  }
+
+  @Override
+  public Genre update(final Genre genre, final Long expectedVersion) {
+    try {
+      return this.delegate.update(genre, expectedVersion);
+    } finally {
+      this.cache.invalidate(genre.getId());
+    }
+  }
+
+  @Override
+  public Pagination<Genre> findAll(final SearchQuery query) {
+    return this.delegate.findAll(query);
+  }
+}
@@ -1,80 +1,237 @@
 package com.isaque.admin.catalogo.infrastructure.genre;
 
+import com.isaque.admin.catalogo.domain.category.CategoryID;
+import com.isaque.admin.catalogo.domain.exceptions.ConflictException;
+import com.isaque.admin.catalogo.domain.exceptions.NotificationException;
+import com.isaque.admin.catalogo.domain.exceptions.PreconditionFailedException;
 import com.isaque.admin.catalogo.domain.genre.Genre;
+import com.isaque.admin.catalogo.domain.genre.GenreDeleted;
 import com.isaque.admin.catalogo.domain.genre.GenreGateway;
 import com.isaque.admin.catalogo.domain.genre.GenreID;
+import com.isaque.admin.catalogo.domain.genre.GenreSortField;
 import com.isaque.admin.catalogo.domain.pagination.Pagination;
 import com.isaque.admin.catalogo.domain.pagination.SearchQuery;
+import com.isaque.admin.catalogo.domain.utils.InstantUtils;
+import com.isaque.admin.catalogo.domain.validation.Error;
+import com.isaque.admin.catalogo.domain.validation.handler.Notification;
+import com.isaque.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.isaque.admin.catalogo.infrastructure.genre.persistence.GenreCategoryID;
 import com.isaque.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
 import com.isaque.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import com.isaque.admin.catalogo.infrastructure.outbox.Outbox;
+import com.isaque.admin.catalogo.infrastructure.utils.BinaryUuidConverter;
+import com.isaque.admin.catalogo.infrastructure.utils.InClauseExecutor;
+import com.isaque.admin.catalogo.infrastructure.utils.PaginationUtils;
 import com.isaque.admin.catalogo.infrastructure.utils.SpecificationUtils;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Component
 public class GenreMySQLGateway implements GenreGateway {
   private final GenreRepository repository;
+  private final CategoryRepository categoryRepository;
+  private final EntityManager entityManager;
+  private final Outbox outbox;
+  private final GenreViewProjector views;
+  private final InClauseExecutor inClause;
+  private final boolean fullTextSearch;
 
-  public GenreMySQLGateway(final GenreRepository genreRepository) {
+  public GenreMySQLGateway(
+      final GenreRepository genreRepository,
+      final CategoryRepository categoryRepository,
+      final EntityManager entityManager,
+      final Outbox outbox,
+      final GenreViewProjector views,
+      final InClauseExecutor inClause,
+      @Value("${search.full-text:false}") final boolean fullTextSearch
+  ) {
     this.repository = Objects.requireNonNull(genreRepository);
+    this.categoryRepository = Objects.requireNonNull(categoryRepository);
+    this.entityManager = Objects.requireNonNull(entityManager);
+    this.outbox = Objects.requireNonNull(outbox);
+    this.views = Objects.requireNonNull(views);
+    this.inClause = Objects.requireNonNull(inClause);
+    this.fullTextSearch = fullTextSearch;
   }
 
   @Override
+  @Transactional
   public Genre create(final Genre genre) {
-    return save(genre);
+    return save(genre, () -> this.repository.saveAndFlush(GenreJpaEntity.from(genre)).toAggregate());
   }
 
+  /**
+   * Two deletes whatever the number of categories: the genres_categories rows in bulk, then the
+   * genre, whose view row goes with it by the foreign key's cascade. When a genre row was actually
+   * removed, a GenreDeleted event is appended to the outbox in the same transaction.
+   */
   @Override
+  @Transactional
   public void deleteById(final GenreID id) {
     final var genreId = id.getValue();
-    if (this.repository.existsById(genreId)) {
-      this.repository.deleteById(id.getValue());
+    if (BinaryUuidConverter.isValid(genreId)) {
+      this.repository.deleteAllCategories(genreId);
+      if (this.repository.deleteGenre(genreId) > 0) {
+        this.outbox.append(Genre.class, new GenreDeleted(genreId, InstantUtils.now()));
+      }
     }
   }
 
   @Override
   public Optional<Genre> findById(final GenreID id) {
-    return this.repository.findById(id.getValue()).map(GenreJpaEntity::toAggregate);
+    return Optional.of(id.getValue())
+        .filter(BinaryUuidConverter::isValid)
+        .flatMap(this.repository::findById)
+        .map(GenreJpaEntity::toAggregate);
   }
 
   @Override
+  @Transactional
   public Genre update(final Genre genre) {
-    return save(genre);
+    return update(genre, null);
+  }
+
+  /**
+   * Writes the genre row and only the genres_categories rows the aggregate changed since it was
+   * loaded: one batched INSERT for the added categories and one DELETE per IN chunk for the removed.
+   * An {@code expectedVersion} is compared with the stored row; when it matches but the genre was
+   * loaded from an older cached copy, its tracked changes are not relative to the stored rows, so
+   * the change is diffed against those instead.
+   */
+  @Override
+  @Transactional
+  public Genre update(final Genre genre, final Long expectedVersion) {
+    final var entity = this.entityManager.find(GenreJpaEntity.class, genre.getId().getValue());
+    if (entity == null) {
+      return create(genre);
+    }
+    if (expectedVersion != null && !expectedVersion.equals(entity.getVersion())) {
+      throw PreconditionFailedException.with(Genre.class, genre.getId());
+    }
+    final var stale = genre.getVersion() != null && !genre.getVersion().equals(entity.getVersion());
+    if (stale && expectedVersion == null) {
+      throw ConflictException.with(Genre.class, genre.getId());
+    }
+
+    return save(genre, () -> {
+      entity.updateFrom(genre);
+
+      final Collection<CategoryID> added;
+      final Collection<CategoryID> removed;
+      if (stale) {
+        final var storedIds = new LinkedHashSet<>(entity.getCategoryIds());
+        final var wantedIds = new LinkedHashSet<>(genre.getCategories());
+        added = wantedIds.stream().filter(id -> !storedIds.contains(id)).toList();
+        removed = storedIds.stream().filter(id -> !wantedIds.contains(id)).toList();
+      } else {
+        added = genre.getAddedCategories();
+        removed = genre.getRemovedCategories();
+      }
+
+      entity.removeCategories(removed);
+      this.inClause.execute(
+          removed.stream().map(CategoryID::getValue).toList(),
+          ids -> List.of(this.repository.deleteCategories(entity.getId(), ids))
+      );
+      entity.addCategories(added).forEach(this.entityManager::persist);
+
+      this.repository.flush();
+      return entity.toAggregate(genre.getCategories());
+    });
   }
 
   @Override
   public Pagination<Genre> findAll(final SearchQuery query) {
-    final var page = PageRequest.of(
-        query.page(),
-        query.perPage(),
-        Sort.by(Sort.Direction.fromString(query.direction()), query.sort())
-    );
-    
     final var where = Optional.ofNullable(query.terms())
         .filter(str -> !str.isBlank())
-        .map(this::assembleSpecification)
+        .map(terms -> assembleSpecification(terms, !query.hasCursor()))
         .orElse(null);
 
-    final var pageResult = this.repository.findAll(Specification.where(where), page);
+    final var page = PaginationUtils.findAll(
+        this.entityManager, GenreJpaEntity.class, where, query, GenreSortField.values());
+    final var categories = findCategoryIds(page.items());
 
-    return new Pagination<>(
-        pageResult.getNumber(),
-        pageResult.getSize(),
-        pageResult.getTotalElements(),
-        pageResult.map(GenreJpaEntity::toAggregate).toList()
-    );
+    return page.map(entity -> entity.toAggregate(categories.getOrDefault(entity.getId(), List.of())));
   }
 
-  private Genre save(final Genre genre) {
-    return this.repository.save(GenreJpaEntity.from(genre)).toAggregate();
+  /**
+   * Loads the categories of a whole page in a single IN query instead of one select per genre.
+   */
+  private Map<String, List<CategoryID>> findCategoryIds(final List<GenreJpaEntity> genres) {
+    if (genres.isEmpty()) {
+      return Map.of();
+    }
+
+    final var genreIds = genres.stream().map(GenreJpaEntity::getId).toList();
+
+    return this.repository.findCategoryIdsByGenreIds(genreIds).stream()
+        .collect(Collectors.groupingBy(
+            GenreCategoryID::getGenreId,
+            Collectors.mapping(it -> CategoryID.from(it.getCategoryId()), Collectors.toList())
+        ));
+  }
+
+  /**
+   * Writes only if the stored version is still the one the aggregate was loaded with (@Version);
+   * its pending events and its read model row are written in the same transaction.
+   */
+  private Genre save(final Genre genre, final Supplier<Genre> write) {
+    final Genre saved;
+    try {
+      saved = write.get();
+    } catch (final OptimisticLockingFailureException e) {
+      throw ConflictException.with(Genre.class, genre.getId());
+    } catch (final DataIntegrityViolationException e) {
+      throw missingCategories(genre, e);
+    }
+    this.outbox.append(genre);
+    this.views.project(saved);
+    return saved;
+  }
+
+  /**
+   * The use cases check the categories exist against a cache, which a delete on another instance
+   * leaves stale; the foreign key then rejects the genres_categories row. That is answered with the
+   * notification the check would have raised, or rethrown if every category does exist.
+   */
+  private RuntimeException missingCategories(final Genre genre, final DataIntegrityViolationException e) {
+    // the rejected inserts are still pending, and would be flushed again before the lookup below
+    this.entityManager.clear();
+
+    final var ids = genre.getCategories().stream().map(CategoryID::getValue).distinct().toList();
+    final var existing = new HashSet<>(this.inClause.execute(ids, this.categoryRepository::existsByIds));
+    final var missingIds = ids.stream()
+        .filter(id -> !existing.contains(id))
+        .collect(Collectors.joining(", "));
+
+    if (missingIds.isEmpty()) {
+      return e;
+    }
+    return new NotificationException(
+        "Could not save aggregate genre %s".formatted(genre.getId().getValue()),
+        Notification.create(new Error("Some categories could not be found: %s".formatted(missingIds)))
+    );
   }
 
-  private Specification<GenreJpaEntity> assembleSpecification(final String terms) {
+  private Specification<GenreJpaEntity> assembleSpecification(final String terms, final boolean ranked) {
+    if (this.fullTextSearch && SpecificationUtils.isFullTextSearchable(terms)) {
+      return SpecificationUtils.match(terms, ranked, "name");
+    }
     return SpecificationUtils.like("name", terms);
   }
 }
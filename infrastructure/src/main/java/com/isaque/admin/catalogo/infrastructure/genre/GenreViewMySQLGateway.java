@@ -0,0 +1,59 @@
+package com.isaque.admin.catalogo.infrastructure.genre;
+
+import com.isaque.admin.catalogo.domain.genre.GenreSortField;
+import com.isaque.admin.catalogo.domain.genre.GenreView;
+import com.isaque.admin.catalogo.domain.genre.GenreViewGateway;
+import com.isaque.admin.catalogo.domain.pagination.Pagination;
+import com.isaque.admin.catalogo.domain.pagination.SearchQuery;
+import com.isaque.admin.catalogo.infrastructure.genre.persistence.GenreViewJpaEntity;
+import com.isaque.admin.catalogo.infrastructure.genre.persistence.GenreViewRow;
+import com.isaque.admin.catalogo.infrastructure.utils.PaginationUtils;
+import com.isaque.admin.catalogo.infrastructure.utils.PaginationUtils.Projection;
+import com.isaque.admin.catalogo.infrastructure.utils.SpecificationUtils;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Lists genres from genre_views: one indexed query per page, category names included, projected
+ * into rows that never enter the persistence context.
+ */
+@Component
+public class GenreViewMySQLGateway implements GenreViewGateway {
+  private static final Projection<GenreViewJpaEntity, GenreViewRow> ROW =
+      Projection.of(GenreViewJpaEntity.class, GenreViewRow.class);
+
+  private final EntityManager entityManager;
+  private final boolean fullTextSearch;
+
+  public GenreViewMySQLGateway(
+      final EntityManager entityManager,
+      @Value("${search.full-text:false}") final boolean fullTextSearch
+  ) {
+    this.entityManager = Objects.requireNonNull(entityManager);
+    this.fullTextSearch = fullTextSearch;
+  }
+
+  @Override
+  public Pagination<GenreView> findAll(final SearchQuery query) {
+    final var where = Optional.ofNullable(query.terms())
+        .filter(str -> !str.isBlank())
+        .map(terms -> assembleSpecification(terms, !query.hasCursor()))
+        .orElse(null);
+
+    return PaginationUtils.findAll(
+        this.entityManager, GenreViewJpaEntity.class, ROW, where, query, GenreSortField.values())
+        .map(GenreViewRow::toView);
+  }
+
+  private Specification<GenreViewJpaEntity> assembleSpecification(final String terms, final boolean ranked) {
+    if (this.fullTextSearch && SpecificationUtils.isFullTextSearchable(terms)) {
+      return SpecificationUtils.match(terms, ranked, "name");
+    }
+    return SpecificationUtils.like("name", terms);
+  }
+}
@@ -0,0 +1,102 @@
+package com.isaque.admin.catalogo.infrastructure.genre;
+
+import com.isaque.admin.catalogo.domain.category.CategoryID;
+import com.isaque.admin.catalogo.domain.genre.Genre;
+import com.isaque.admin.catalogo.domain.genre.GenreView;
+import com.isaque.admin.catalogo.domain.utils.InstantUtils;
+import com.isaque.admin.catalogo.infrastructure.category.persistence.CategoryName;
+import com.isaque.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.isaque.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import com.isaque.admin.catalogo.infrastructure.genre.persistence.GenreViewJpaEntity;
+import com.isaque.admin.catalogo.infrastructure.genre.persistence.GenreViewRepository;
+import com.isaque.admin.catalogo.infrastructure.utils.InClauseExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps genre_views in step with genres and categories. Every method joins the transaction of the
+ * write it follows, so the read model never commits apart from the source rows. The rows each side
+ * depends on are read with locks: a plain read returns the transaction's snapshot, which may predate
+ * a rename or a new genre committed meanwhile and would leave a stale name in the view.
+ */
+@Component
+public class GenreViewProjector {
+  private final GenreViewRepository viewRepository;
+  private final GenreRepository genreRepository;
+  private final CategoryRepository categoryRepository;
+  private final InClauseExecutor inClause;
+
+  public GenreViewProjector(
+      final GenreViewRepository viewRepository,
+      final GenreRepository genreRepository,
+      final CategoryRepository categoryRepository,
+      final InClauseExecutor inClause
+  ) {
+    this.viewRepository = Objects.requireNonNull(viewRepository);
+    this.genreRepository = Objects.requireNonNull(genreRepository);
+    this.categoryRepository = Objects.requireNonNull(categoryRepository);
+    this.inClause = Objects.requireNonNull(inClause);
+  }
+
+  /**
+   * The names are read under a shared lock: a rename holds the category row until it commits, and
+   * is then seen here; a later rename waits for this transaction and then finds the view.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void project(final Genre genre) {
+    final var categoryIds = genre.getCategories().stream().map(CategoryID::getValue).toList();
+    final Map<CategoryID, String> names = this.inClause.execute(categoryIds, this.categoryRepository::findNamesByIdsForShare)
+        .stream()
+        .collect(Collectors.toMap(it -> CategoryID.from(it.getId()), CategoryName::getName));
+
+    this.viewRepository.save(GenreViewJpaEntity.from(GenreView.from(genre, names)));
+  }
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void renameCategory(final CategoryID id, final String name) {
+    updateViewsListing(id, categories -> categories.stream()
+        .map(it -> it.id().equals(id.getValue()) ? new GenreView.CategoryRef(it.id(), name) : it)
+        .toList());
+  }
+
+  /**
+   * Must run before the category row is deleted: the cascade removes the links used to find the views.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void removeCategory(final CategoryID id) {
+    updateViewsListing(id, categories -> categories.stream()
+        .filter(it -> !it.id().equals(id.getValue()))
+        .toList());
+  }
+
+  /**
+   * Rewrites only the views of genres linked to the category; unchanged JSON is not written back
+   * since the entities are dirty-checked. A rewritten view also gets a new updated_at, which the
+   * listing's weak ETag is built from, so cached pages with the old names stop matching.
+   */
+  private void updateViewsListing(
+      final CategoryID id,
+      final UnaryOperator<List<GenreView.CategoryRef>> change
+  ) {
+    final var genreIds = this.genreRepository.findGenreIdsByCategoryId(id.getValue());
+    if (genreIds.isEmpty()) {
+      return;
+    }
+    final var now = InstantUtils.now();
+    this.viewRepository.findAllByIdForUpdate(genreIds).forEach(view -> {
+      final var current = view.getCategoryRefs();
+      final var changed = change.apply(current);
+      if (!changed.equals(current)) {
+        view.setCategoryRefs(changed);
+        view.setUpdatedAt(now);
+      }
+    });
+  }
+}
@@ -0,0 +1,15 @@
+package com.isaque.admin.catalogo.infrastructure.genre.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record CreateGenreRequest(
+        @JsonProperty("name") String name,
+        @JsonProperty("categories_id") List<String> categories,
+        @JsonProperty("is_active") Boolean active
+) {
+    public List<String> categories() {
+        return categories != null ? categories : List.of();
+    }
+}
@@ -0,0 +1,22 @@
+package com.isaque.admin.catalogo.infrastructure.genre.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+import java.util.List;
+
+public record GenreListResponse(
+        @JsonProperty("id") String id,
+        @JsonProperty("name") String name,
+        @JsonProperty("categories_id") List<String> categories,
+        @JsonProperty("categories") List<CategoryNameResponse> categoryNames,
+        @JsonProperty("is_active") Boolean active,
+        @JsonProperty("created_at") Instant createdAt,
+        @JsonProperty("deleted_at") Instant deletedAt
+) {
+    public record CategoryNameResponse(
+            @JsonProperty("id") String id,
+            @JsonProperty("name") String name
+    ) {
+    }
+}
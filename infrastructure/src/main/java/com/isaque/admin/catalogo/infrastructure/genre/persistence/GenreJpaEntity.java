@@ -3,15 +3,20 @@ package com.isaque.admin.catalogo.infrastructure.genre.persistence;
 import com.isaque.admin.catalogo.domain.category.CategoryID;
 import com.isaque.admin.catalogo.domain.genre.Genre;
 import com.isaque.admin.catalogo.domain.genre.GenreID;
+import com.isaque.admin.catalogo.infrastructure.utils.BinaryUuidConverter;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import org.hibernate.Hibernate;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -20,7 +25,8 @@ import java.util.Set;
 @Table(name = "genres")
 public class GenreJpaEntity {
   @Id
-  @Column(name = "id", nullable = false)
+  @Convert(converter = BinaryUuidConverter.class)
+  @Column(name = "id", nullable = false, columnDefinition = "BINARY(16)")
   private String id;
 
   @Column(name = "name", nullable = false)
@@ -29,7 +35,11 @@ public class GenreJpaEntity {
   @Column(name = "active", nullable = false)
   private boolean active;
 
-  @OneToMany(mappedBy = "genre", cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+  /**
+   * Only persisted with a new genre and removed with it; on update the gateway writes the rows the
+   * aggregate changed, so the collection is never merged as a whole.
+   */
+  @OneToMany(mappedBy = "genre", cascade = {CascadeType.PERSIST, CascadeType.REMOVE}, fetch = FetchType.LAZY)
   private Set<GenreCategoryJpaEntity> categories;
 
   @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
@@ -41,6 +51,10 @@ public class GenreJpaEntity {
   @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
   private Instant deletedAt;
 
+  @Version
+  @Column(name = "version", nullable = false)
+  private Long version;
+
   public GenreJpaEntity() {
   }
 
@@ -50,7 +64,8 @@ public class GenreJpaEntity {
       final boolean isActive,
       final Instant createdAt,
       final Instant updatedAt,
-      final Instant deletedAt
+      final Instant deletedAt,
+      final Long version
   ) {
     this.id = id;
     this.name = name;
@@ -59,6 +74,7 @@ public class GenreJpaEntity {
     this.createdAt = createdAt;
     this.updatedAt = updatedAt;
     this.deletedAt = deletedAt;
+    this.version = version;
   }
 
   public static GenreJpaEntity from(final Genre genre) {
@@ -68,7 +84,8 @@ public class GenreJpaEntity {
         genre.isActive(),
         genre.getCreatedAt(),
         genre.getUpdatedAt(),
-        genre.getDeletedAt()
+        genre.getDeletedAt(),
+        genre.getVersion()
     );
 
     genre.getCategories().forEach(entity::addCategory);
@@ -77,17 +94,59 @@ public class GenreJpaEntity {
   }
 
   public Genre toAggregate() {
+    return toAggregate(this.getCategoryIds());
+  }
+
+  /**
+   * Builds the aggregate from categories loaded apart, without touching the lazy collection.
+   */
+  public Genre toAggregate(final List<CategoryID> categoryIds) {
     return Genre.with(
         GenreID.from(this.id),
         this.name,
         this.active,
-        this.getCategoryIds(),
+        categoryIds,
         this.createdAt,
         this.updatedAt,
-        this.deletedAt
+        this.deletedAt,
+        this.version
     );
   }
 
+  /**
+   * Copies the aggregate's own columns; the categories are left to {@link #addCategories} and
+   * {@link #removeCategories}.
+   */
+  public void updateFrom(final Genre genre) {
+    this.name = genre.getName();
+    this.active = genre.isActive();
+    this.updatedAt = genre.getUpdatedAt();
+    this.deletedAt = genre.getDeletedAt();
+  }
+
+  /**
+   * New rows for the given categories, to be persisted by the caller. A collection that is already
+   * loaded gets the same instances; one that is not stays unloaded.
+   */
+  public List<GenreCategoryJpaEntity> addCategories(final Collection<CategoryID> categoryIds) {
+    final var rows = categoryIds.stream()
+        .map(categoryId -> GenreCategoryJpaEntity.from(this, categoryId))
+        .toList();
+    if (Hibernate.isInitialized(this.categories)) {
+      this.categories.addAll(rows);
+    }
+    return rows;
+  }
+
+  /**
+   * Drops the given categories from a loaded collection; the rows themselves are deleted by the caller.
+   */
+  public void removeCategories(final Collection<CategoryID> categoryIds) {
+    if (Hibernate.isInitialized(this.categories)) {
+      categoryIds.forEach(this::removeCategory);
+    }
+  }
+
   private void addCategory(final CategoryID categoryId) {
     this.categories.add(GenreCategoryJpaEntity.from(this, categoryId));
   }
@@ -157,4 +216,12 @@ public class GenreJpaEntity {
   public void setDeletedAt(final Instant deletedAt) {
     this.deletedAt = deletedAt;
   }
+
+  public Long getVersion() {
+    return version;
+  }
+
+  public void setVersion(final Long version) {
+    this.version = version;
+  }
 }
@@ -1,11 +1,46 @@
 package com.isaque.admin.catalogo.infrastructure.genre.persistence;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface GenreRepository extends JpaRepository<GenreJpaEntity, String> {
   Page<GenreJpaEntity> findAll(Specification<GenreJpaEntity> whereClause, Pageable page);
 
+  @Override
+  @EntityGraph(attributePaths = "categories")
+  Optional<GenreJpaEntity> findById(String id);
+
+  @Query("select gc.id from GenreCategoryJpaEntity gc where gc.id.genreId in :genreIds")
+  List<GenreCategoryID> findCategoryIdsByGenreIds(@Param("genreIds") Collection<String> genreIds);
+
+  /**
+   * Locking read, so links committed after the transaction's snapshot are seen too.
+   */
+  @Lock(LockModeType.PESSIMISTIC_READ)
+  @Query("select gc.id.genreId from GenreCategoryJpaEntity gc where gc.id.categoryId = :categoryId")
+  List<String> findGenreIdsByCategoryId(@Param("categoryId") String categoryId);
+
+  @Modifying
+  @Query("delete from GenreCategoryJpaEntity gc where gc.id.genreId = :genreId and gc.id.categoryId in :categoryIds")
+  int deleteCategories(@Param("genreId") String genreId, @Param("categoryIds") Collection<String> categoryIds);
+
+  @Modifying(flushAutomatically = true)
+  @Query("delete from GenreCategoryJpaEntity gc where gc.id.genreId = :genreId")
+  int deleteAllCategories(@Param("genreId") String genreId);
+
+  @Modifying(clearAutomatically = true)
+  @Query("delete from GenreJpaEntity g where g.id = :id")
+  int deleteGenre(@Param("id") String id);
 }
@@ -0,0 +1,144 @@
+package com.isaque.admin.catalogo.infrastructure.genre.persistence;
+
+import com.isaque.admin.catalogo.domain.genre.GenreView;
+import com.isaque.admin.catalogo.infrastructure.configuration.json.Json;
+import com.isaque.admin.catalogo.infrastructure.utils.BinaryUuidConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+import java.util.List;
+
+@Entity(name = "GenreView")
+@Table(name = "genre_views")
+public class GenreViewJpaEntity {
+  @Id
+  @Convert(converter = BinaryUuidConverter.class)
+  @Column(name = "id", nullable = false, columnDefinition = "BINARY(16)")
+  private String id;
+
+  @Column(name = "name", nullable = false)
+  private String name;
+
+  @Column(name = "active", nullable = false)
+  private boolean active;
+
+  /**
+   * JSON array of {"id", "name"} objects, in the order of the genre's categories.
+   */
+  @Column(name = "categories", nullable = false, columnDefinition = "MEDIUMTEXT")
+  private String categories;
+
+  @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+  private Instant createdAt;
+
+  @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
+  private Instant updatedAt;
+
+  @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
+  private Instant deletedAt;
+
+  public GenreViewJpaEntity() {
+  }
+
+  private GenreViewJpaEntity(
+      final String id,
+      final String name,
+      final boolean active,
+      final String categories,
+      final Instant createdAt,
+      final Instant updatedAt,
+      final Instant deletedAt
+  ) {
+    this.id = id;
+    this.name = name;
+    this.active = active;
+    this.categories = categories;
+    this.createdAt = createdAt;
+    this.updatedAt = updatedAt;
+    this.deletedAt = deletedAt;
+  }
+
+  public static GenreViewJpaEntity from(final GenreView view) {
+    return new GenreViewJpaEntity(
+        view.id().getValue(),
+        view.name(),
+        view.active(),
+        Json.writeValueAsString(view.categories()),
+        view.createdAt(),
+        view.updatedAt(),
+        view.deletedAt()
+    );
+  }
+
+  public List<GenreView.CategoryRef> getCategoryRefs() {
+    return categoryRefsOf(this.categories);
+  }
+
+  static List<GenreView.CategoryRef> categoryRefsOf(final String categories) {
+    return List.of(Json.readValue(categories, GenreView.CategoryRef[].class));
+  }
+
+  public void setCategoryRefs(final List<GenreView.CategoryRef> categories) {
+    this.categories = Json.writeValueAsString(categories);
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public void setId(final String id) {
+    this.id = id;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(final String name) {
+    this.name = name;
+  }
+
+  public boolean isActive() {
+    return active;
+  }
+
+  public void setActive(final boolean active) {
+    this.active = active;
+  }
+
+  public String getCategories() {
+    return categories;
+  }
+
+  public void setCategories(final String categories) {
+    this.categories = categories;
+  }
+
+  public Instant getCreatedAt() {
+    return createdAt;
+  }
+
+  public void setCreatedAt(final Instant createdAt) {
+    this.createdAt = createdAt;
+  }
+
+  public Instant getUpdatedAt() {
+    return updatedAt;
+  }
+
+  public void setUpdatedAt(final Instant updatedAt) {
+    this.updatedAt = updatedAt;
+  }
+
+  public Instant getDeletedAt() {
+    return deletedAt;
+  }
+
+  public void setDeletedAt(final Instant deletedAt) {
+    this.deletedAt = deletedAt;
+  }
+}
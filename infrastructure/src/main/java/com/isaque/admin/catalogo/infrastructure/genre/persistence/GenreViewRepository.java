@@ -0,0 +1,17 @@
+package com.isaque.admin.catalogo.infrastructure.genre.persistence;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface GenreViewRepository extends JpaRepository<GenreViewJpaEntity, String> {
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select v from GenreView v where v.id in :ids")
+  List<GenreViewJpaEntity> findAllByIdForUpdate(@Param("ids") Collection<String> ids);
+}
@@ -0,0 +1,32 @@
+package com.isaque.admin.catalogo.infrastructure.genre.persistence;
+
+import com.isaque.admin.catalogo.domain.genre.GenreID;
+import com.isaque.admin.catalogo.domain.genre.GenreView;
+
+import java.time.Instant;
+
+/**
+ * A genre_views row selected through this constructor instead of loaded as a managed
+ * {@link GenreViewJpaEntity}.
+ */
+public record GenreViewRow(
+    String id,
+    String name,
+    boolean active,
+    String categories,
+    Instant createdAt,
+    Instant updatedAt,
+    Instant deletedAt
+) {
+  public GenreView toView() {
+    return new GenreView(
+        GenreID.from(this.id),
+        this.name,
+        this.active,
+        GenreViewJpaEntity.categoryRefsOf(this.categories),
+        this.createdAt,
+        this.updatedAt,
+        this.deletedAt
+    );
+  }
+}
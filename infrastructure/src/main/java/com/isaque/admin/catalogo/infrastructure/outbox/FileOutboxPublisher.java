@@ -0,0 +1,48 @@
+package com.isaque.admin.catalogo.infrastructure.outbox;
+
+import com.isaque.admin.catalogo.infrastructure.configuration.json.Json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Appends each message as one JSON line (NDJSON), so a local consumer can tail the file.
+ */
+public class FileOutboxPublisher implements OutboxPublisher {
+  private final Path path;
+
+  public FileOutboxPublisher(final Path path) {
+    this.path = Objects.requireNonNull(path);
+  }
+
+  @Override
+  public synchronized void publish(final List<OutboxMessage> messages) {
+    if (messages.isEmpty()) {
+      return;
+    }
+    final var lines = new StringBuilder();
+    messages.forEach(message -> lines.append(Json.writeValueAsString(message)).append('\n'));
+    try {
+      final var parent = this.path.toAbsolutePath().getParent();
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+      Files.writeString(
+          this.path,
+          lines,
+          StandardCharsets.UTF_8,
+          StandardOpenOption.CREATE,
+          StandardOpenOption.APPEND,
+          StandardOpenOption.SYNC
+      );
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,38 @@
+package com.isaque.admin.catalogo.infrastructure.outbox;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Keeps the last {@code capacity} messages for local runs and tests; older ones are dropped.
+ */
+public class InMemoryOutboxPublisher implements OutboxPublisher {
+  private final Deque<OutboxMessage> messages = new ArrayDeque<>();
+  private final int capacity;
+
+  public InMemoryOutboxPublisher(final int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("'capacity' must be greater than 0");
+    }
+    this.capacity = capacity;
+  }
+
+  @Override
+  public synchronized void publish(final List<OutboxMessage> messages) {
+    for (final var message : messages) {
+      if (this.messages.size() == this.capacity) {
+        this.messages.removeFirst();
+      }
+      this.messages.addLast(message);
+    }
+  }
+
+  public synchronized List<OutboxMessage> published() {
+    return List.copyOf(this.messages);
+  }
+
+  public synchronized void clear() {
+    this.messages.clear();
+  }
+}
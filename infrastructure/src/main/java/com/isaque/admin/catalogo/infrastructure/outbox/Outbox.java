@@ -0,0 +1,64 @@
+package com.isaque.admin.catalogo.infrastructure.outbox;
+
+import com.isaque.admin.catalogo.domain.AggregateRoot;
+import com.isaque.admin.catalogo.domain.events.DomainEvent;
+import com.isaque.admin.catalogo.infrastructure.configuration.json.Json;
+import com.isaque.admin.catalogo.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import com.isaque.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+@Component
+public class Outbox {
+  private final OutboxEventRepository repository;
+
+  public Outbox(final OutboxEventRepository repository) {
+    this.repository = Objects.requireNonNull(repository);
+  }
+
+  /**
+   * Must join the transaction that writes the aggregate, so events are stored if and only if the
+   * change is.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void append(final AggregateRoot<?> aggregate) {
+    appendAll(List.of(aggregate));
+  }
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void appendAll(final Collection<? extends AggregateRoot<?>> aggregates) {
+    final var entries = aggregates.stream()
+        .flatMap(aggregate -> aggregate.getDomainEvents().stream()
+            .map(event -> toEntry(aggregate.getClass(), event)))
+        .toList();
+    if (!entries.isEmpty()) {
+      this.repository.saveAll(entries);
+    }
+
+    aggregates.forEach(AggregateRoot::clearDomainEvents);
+  }
+
+  /**
+   * For changes that leave no aggregate to carry the event, such as a delete; same transaction rule
+   * as {@link #append(AggregateRoot)}.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void append(final Class<? extends AggregateRoot<?>> aggregateType, final DomainEvent event) {
+    this.repository.save(toEntry(aggregateType, event));
+  }
+
+  private static OutboxEventJpaEntity toEntry(final Class<?> aggregateType, final DomainEvent event) {
+    return OutboxEventJpaEntity.newEvent(
+        aggregateType.getSimpleName(),
+        event.aggregateId(),
+        event.getClass().getSimpleName(),
+        Json.writeValueAsString(event),
+        event.occurredOn()
+    );
+  }
+}
@@ -0,0 +1,17 @@
+package com.isaque.admin.catalogo.infrastructure.outbox;
+
+import java.time.Instant;
+
+/**
+ * An event as handed to an {@link OutboxPublisher}; {@code id} grows with commit order per instance
+ * and lets consumers drop redeliveries.
+ */
+public record OutboxMessage(
+    Long id,
+    String aggregateType,
+    String aggregateId,
+    String eventType,
+    String payload,
+    Instant occurredAt
+) {
+}
@@ -0,0 +1,11 @@
+package com.isaque.admin.catalogo.infrastructure.outbox;
+
+import java.util.List;
+
+/**
+ * Delivery is at-least-once: if publish throws, the batch stays in the outbox and is sent again
+ * on the next relay run.
+ */
+public interface OutboxPublisher {
+  void publish(List<OutboxMessage> messages);
+}
@@ -0,0 +1,61 @@
+package com.isaque.admin.catalogo.infrastructure.outbox;
+
+import com.isaque.admin.catalogo.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import com.isaque.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Objects;
+
+@Component
+public class OutboxRelay {
+  private final OutboxEventRepository repository;
+  private final OutboxPublisher publisher;
+  private final TransactionTemplate transactionTemplate;
+  private final int batchSize;
+
+  public OutboxRelay(
+      final OutboxEventRepository repository,
+      final OutboxPublisher publisher,
+      final PlatformTransactionManager transactionManager,
+      @Value("${outbox.relay.batch-size:500}") final int batchSize
+  ) {
+    this.repository = Objects.requireNonNull(repository);
+    this.publisher = Objects.requireNonNull(publisher);
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Drains the outbox batch by batch until a batch comes back short.
+   */
+  @Scheduled(fixedDelayString = "${outbox.relay.interval:1s}")
+  public void drain() {
+    while (relay() == this.batchSize) {
+      // keep going while there is a backlog
+    }
+  }
+
+  /**
+   * Publishes the oldest batch and deletes it in the same transaction, so the rows stay locked
+   * (and are retried) if publishing fails.
+   *
+   * @return how many events were relayed
+   */
+  public int relay() {
+    final Integer relayed = this.transactionTemplate.execute(status -> {
+      final var batch = this.repository.findNextBatch(PageRequest.ofSize(this.batchSize));
+      if (batch.isEmpty()) {
+        return 0;
+      }
+      this.publisher.publish(batch.stream().map(OutboxEventJpaEntity::toMessage).toList());
+      this.repository.deleteAllInBatch(batch);
+      return batch.size();
+    });
+    return relayed == null ? 0 : relayed;
+  }
+}
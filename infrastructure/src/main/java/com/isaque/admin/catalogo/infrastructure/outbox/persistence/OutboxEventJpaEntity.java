@@ -0,0 +1,116 @@
+package com.isaque.admin.catalogo.infrastructure.outbox.persistence;
+
+import com.isaque.admin.catalogo.infrastructure.outbox.OutboxMessage;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+@Entity(name = "OutboxEvent")
+@Table(name = "outbox_events")
+public class OutboxEventJpaEntity {
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "id", nullable = false)
+  private Long id;
+  @Column(name = "aggregate_type", length = 64, nullable = false)
+  private String aggregateType;
+  @Column(name = "aggregate_id", length = 36, nullable = false)
+  private String aggregateId;
+  @Column(name = "event_type", length = 128, nullable = false)
+  private String eventType;
+  @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+  private String payload;
+  @Column(name = "occurred_at", nullable = false, columnDefinition = "DATETIME(6)")
+  private Instant occurredAt;
+
+  public OutboxEventJpaEntity() {
+  }
+
+  private OutboxEventJpaEntity(
+      final String aggregateType,
+      final String aggregateId,
+      final String eventType,
+      final String payload,
+      final Instant occurredAt
+  ) {
+    this.aggregateType = aggregateType;
+    this.aggregateId = aggregateId;
+    this.eventType = eventType;
+    this.payload = payload;
+    this.occurredAt = occurredAt;
+  }
+
+  public static OutboxEventJpaEntity newEvent(
+      final String aggregateType,
+      final String aggregateId,
+      final String eventType,
+      final String payload,
+      final Instant occurredAt
+  ) {
+    return new OutboxEventJpaEntity(aggregateType, aggregateId, eventType, payload, occurredAt);
+  }
+
+  public OutboxMessage toMessage() {
+    return new OutboxMessage(
+        getId(),
+        getAggregateType(),
+        getAggregateId(),
+        getEventType(),
+        getPayload(),
+        getOccurredAt()
+    );
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(final Long id) {
+    this.id = id;
+  }
+
+  public String getAggregateType() {
+    return aggregateType;
+  }
+
+  public void setAggregateType(final String aggregateType) {
+    this.aggregateType = aggregateType;
+  }
+
+  public String getAggregateId() {
+    return aggregateId;
+  }
+
+  public void setAggregateId(final String aggregateId) {
+    this.aggregateId = aggregateId;
+  }
+
+  public String getEventType() {
+    return eventType;
+  }
+
+  public void setEventType(final String eventType) {
+    this.eventType = eventType;
+  }
+
+  public String getPayload() {
+    return payload;
+  }
+
+  public void setPayload(final String payload) {
+    this.payload = payload;
+  }
+
+  public Instant getOccurredAt() {
+    return occurredAt;
+  }
+
+  public void setOccurredAt(final Instant occurredAt) {
+    this.occurredAt = occurredAt;
+  }
+}
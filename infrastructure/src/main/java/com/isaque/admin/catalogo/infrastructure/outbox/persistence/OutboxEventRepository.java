@@ -0,0 +1,24 @@
+package com.isaque.admin.catalogo.infrastructure.outbox.persistence;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEventJpaEntity, Long> {
+
+  /**
+   * Lock timeout -2 is Hibernate's SKIP LOCKED: concurrent relays take disjoint batches instead of
+   * waiting on each other.
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @QueryHints(@QueryHint(name = AvailableSettings.JAKARTA_LOCK_TIMEOUT, value = "-2"))
+  @Query(value = "select e from OutboxEvent e order by e.id")
+  List<OutboxEventJpaEntity> findNextBatch(Pageable page);
+}
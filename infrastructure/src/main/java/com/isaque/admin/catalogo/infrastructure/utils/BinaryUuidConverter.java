@@ -0,0 +1,49 @@
+package com.isaque.admin.catalogo.infrastructure.utils;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Stores the string ids used by the domain and the API as BINARY(16). The bytes keep the UUID
+ * order, so time-ordered (v7) ids stay sequential in the clustered index.
+ */
+@Converter
+public class BinaryUuidConverter implements AttributeConverter<String, byte[]> {
+  private static final Pattern UUID_PATTERN =
+      Pattern.compile("^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
+
+  /**
+   * Ids coming from requests may be anything; only valid ones can be bound to a BINARY(16) column.
+   */
+  public static boolean isValid(final String id) {
+    return id != null && UUID_PATTERN.matcher(id).matches();
+  }
+
+  @Override
+  public byte[] convertToDatabaseColumn(final String id) {
+    if (id == null) {
+      return null;
+    }
+    if (!isValid(id)) {
+      throw new IllegalArgumentException("'%s' is not a UUID".formatted(id));
+    }
+    final var uuid = UUID.fromString(id);
+    return ByteBuffer.allocate(16)
+        .putLong(uuid.getMostSignificantBits())
+        .putLong(uuid.getLeastSignificantBits())
+        .array();
+  }
+
+  @Override
+  public String convertToEntityAttribute(final byte[] bytes) {
+    if (bytes == null) {
+      return null;
+    }
+    final var buffer = ByteBuffer.wrap(bytes);
+    return new UUID(buffer.getLong(), buffer.getLong()).toString();
+  }
+}
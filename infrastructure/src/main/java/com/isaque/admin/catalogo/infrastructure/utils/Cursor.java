@@ -0,0 +1,100 @@
+package com.isaque.admin.catalogo.infrastructure.utils;
+
+import com.isaque.admin.catalogo.domain.exceptions.DomainException;
+import com.isaque.admin.catalogo.domain.validation.Error;
+import org.springframework.beans.BeanWrapperImpl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Opaque keyset position: the sort key and id of the row a page starts after (or before, when
+ * {@code backward}). Serialized as URL-safe Base64 so clients can pass it back untouched.
+ */
+public record Cursor(
+    boolean backward,
+    String sort,
+    String id,
+    String value
+) {
+  private static final String ID = "id";
+
+  public Cursor {
+    Objects.requireNonNull(sort, "'sort' should not be null");
+    Objects.requireNonNull(id, "'id' should not be null");
+  }
+
+  public static Cursor after(final Object entity, final String sort) {
+    return of(false, entity, sort);
+  }
+
+  public static Cursor before(final Object entity, final String sort) {
+    return of(true, entity, sort);
+  }
+
+  public static Cursor decode(final String token) {
+    try (final var in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(token)))) {
+      final var backward = in.readBoolean();
+      final var sort = in.readUTF();
+      final var id = in.readUTF();
+      final var value = in.readBoolean() ? in.readUTF() : null;
+      if (!BinaryUuidConverter.isValid(id)) {
+        throw new IllegalArgumentException("'id' is not a UUID");
+      }
+      return new Cursor(backward, sort, id, value);
+    } catch (final IOException | IllegalArgumentException e) {
+      throw DomainException.with(new Error("'cursor' is invalid"));
+    }
+  }
+
+  public String encode() {
+    final var bytes = new ByteArrayOutputStream();
+    try (final var out = new DataOutputStream(bytes)) {
+      out.writeBoolean(backward);
+      out.writeUTF(sort);
+      out.writeUTF(id);
+      out.writeBoolean(value != null);
+      if (value != null) {
+        out.writeUTF(value);
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+  }
+
+  private static Cursor of(final boolean backward, final Object entity, final String sort) {
+    final var value = property(entity, sort);
+    return new Cursor(
+        backward,
+        sort,
+        String.valueOf(property(entity, ID)),
+        value != null ? value.toString() : null
+    );
+  }
+
+  /**
+   * Entities expose the sort key through a getter, projected rows (records) through a component.
+   */
+  private static Object property(final Object item, final String name) {
+    if (item instanceof Record) {
+      for (final var component : item.getClass().getRecordComponents()) {
+        if (component.getName().equals(name)) {
+          try {
+            return component.getAccessor().invoke(item);
+          } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+          }
+        }
+      }
+      throw new IllegalArgumentException("%s has no component '%s'".formatted(item.getClass().getSimpleName(), name));
+    }
+    return new BeanWrapperImpl(item).getPropertyValue(name);
+  }
+}
@@ -0,0 +1,74 @@
+package com.isaque.admin.catalogo.infrastructure.utils;
+
+import com.isaque.admin.catalogo.domain.exceptions.PreconditionFailedException;
+import com.isaque.admin.catalogo.domain.pagination.Pagination;
+import com.isaque.admin.catalogo.domain.validation.Error;
+
+import java.time.Instant;
+import java.util.function.Function;
+
+/**
+ * Entity tags for conditional requests. Returned through {@code ResponseEntity.eTag}, Spring MVC
+ * answers a matching If-None-Match with 304 before the body is serialized; If-Match on writes is
+ * turned into the expected aggregate version.
+ */
+public final class ETags {
+  private static final String ANY = "*";
+  private static final String WEAK = "W/";
+
+  private ETags() {}
+
+  /**
+   * Strong tag of a single aggregate: id, stored version and updatedAt identify the exact
+   * representation, and the version can be read back from an If-Match with {@link #versionOf}.
+   */
+  public static String of(final String id, final Long version, final Instant updatedAt) {
+    return "\"%s-%d-%s\"".formatted(id, version != null ? version : 0, hex(updatedAt));
+  }
+
+  /**
+   * The version a strong tag of {@code id} was issued for, or {@code null} when there is no
+   * precondition (header absent or {@code *}). A header that is not an entity tag is rejected
+   * with {@link InvalidETagException}; a tag that cannot be one of {@code id}'s current ones (weak,
+   * or issued for another resource) can never match, so it fails the precondition.
+   */
+  public static Long versionOf(final String ifMatch, final String id) {
+    if (ifMatch == null || ifMatch.isBlank() || ANY.equals(ifMatch.trim())) {
+      return null;
+    }
+
+    final var tag = ifMatch.trim();
+    final var opaque = tag.startsWith(WEAK) ? tag.substring(WEAK.length()) : tag;
+    if (opaque.length() < 2 || !opaque.startsWith("\"") || !opaque.endsWith("\"")) {
+      throw InvalidETagException.with(new Error("'If-Match' is not an entity tag"));
+    }
+
+    final var prefix = "\"" + id + "-";
+    if (tag.startsWith(prefix)) {
+      final var rest = tag.substring(prefix.length(), tag.length() - 1);
+      final var end = rest.indexOf('-');
+      try {
+        return Long.parseLong(end < 0 ? rest : rest.substring(0, end));
+      } catch (final NumberFormatException e) {
+        // falls through to the error below
+      }
+    }
+    throw PreconditionFailedException.with(new Error("'If-Match' is not an ETag of %s".formatted(id)));
+  }
+
+  /**
+   * Weak tag of a page: the most recent updatedAt among its items plus how many there are, which
+   * changes whenever an item on the page is updated, added or removed.
+   */
+  public static <T> String of(final Pagination<T> page, final Function<T, Instant> updatedAt) {
+    final var latest = page.items().stream()
+        .map(updatedAt)
+        .max(Instant::compareTo)
+        .orElse(Instant.EPOCH);
+    return "W/\"%d-%d-%s\"".formatted(page.total(), page.items().size(), hex(latest));
+  }
+
+  private static String hex(final Instant instant) {
+    return Long.toHexString(instant.getEpochSecond()) + "." + Integer.toHexString(instant.getNano());
+  }
+}
@@ -0,0 +1,104 @@
+package com.isaque.admin.catalogo.infrastructure.utils;
+
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Runs an {@code IN :ids} query over a large id list as several queries of at most
+ * {@link #chunkSize()} ids. The chunk size is a power of two, so with Hibernate's
+ * {@code in_clause_parameter_padding} every full chunk shares one query plan and the last one
+ * is padded to the next power of two.
+ * <p>
+ * With {@code parallelism > 1} and no transaction open on the calling thread, the chunks are
+ * split into that many groups, each run on a virtual thread in its own read-only transaction,
+ * so one call holds at most {@code parallelism} pool connections. Inside a transaction the
+ * chunks run in order on the caller's connection, where they see its uncommitted writes.
+ */
+public class InClauseExecutor {
+  private static final Executor EXECUTOR = Executors.newThreadPerTaskExecutor(
+      Thread.ofVirtual().name("in-clause-", 0).factory()
+  );
+
+  private final int chunkSize;
+  private final int parallelism;
+  private final TransactionOperations readOnlyTransaction;
+
+  public InClauseExecutor(
+      final int chunkSize,
+      final int parallelism,
+      final TransactionOperations readOnlyTransaction
+  ) {
+    if (chunkSize < 1 || parallelism < 1) {
+      throw new IllegalArgumentException("chunkSize and parallelism must be positive");
+    }
+    this.chunkSize = Integer.highestOneBit(chunkSize);
+    this.parallelism = parallelism;
+    this.readOnlyTransaction = readOnlyTransaction;
+  }
+
+  public int chunkSize() {
+    return chunkSize;
+  }
+
+  /**
+   * @param query runs the IN query for one chunk
+   * @return the results of every chunk, in chunk order
+   */
+  public <T, R> List<R> execute(final List<T> ids, final Function<List<T>, List<R>> query) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    if (ids.size() <= this.chunkSize) {
+      return query.apply(ids);
+    }
+
+    final var chunks = chunks(ids);
+    final var groups = Math.min(this.parallelism, chunks.size());
+    if (groups == 1 || TransactionSynchronizationManager.isActualTransactionActive()) {
+      return runAll(chunks, query);
+    }
+
+    final var futures = new ArrayList<CompletableFuture<List<R>>>(groups);
+    final var perGroup = (chunks.size() + groups - 1) / groups;
+    for (int from = 0; from < chunks.size(); from += perGroup) {
+      final var group = chunks.subList(from, Math.min(from + perGroup, chunks.size()));
+      futures.add(CompletableFuture.supplyAsync(
+          () -> this.readOnlyTransaction.execute(status -> runAll(group, query)),
+          EXECUTOR
+      ));
+    }
+
+    final var results = new ArrayList<R>(ids.size());
+    try {
+      futures.forEach(future -> results.addAll(future.join()));
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+    return results;
+  }
+
+  private <T> List<List<T>> chunks(final List<T> ids) {
+    final var chunks = new ArrayList<List<T>>((ids.size() + this.chunkSize - 1) / this.chunkSize);
+    for (int from = 0; from < ids.size(); from += this.chunkSize) {
+      chunks.add(ids.subList(from, Math.min(from + this.chunkSize, ids.size())));
+    }
+    return chunks;
+  }
+
+  private static <T, R> List<R> runAll(final List<List<T>> chunks, final Function<List<T>, List<R>> query) {
+    final var results = new ArrayList<R>();
+    chunks.forEach(chunk -> results.addAll(query.apply(chunk)));
+    return results;
+  }
+}
@@ -0,0 +1,20 @@
+package com.isaque.admin.catalogo.infrastructure.utils;
+
+import com.isaque.admin.catalogo.domain.exceptions.DomainException;
+import com.isaque.admin.catalogo.domain.validation.Error;
+
+import java.util.List;
+
+/**
+ * A conditional request header that is not an entity tag at all; answered with 400.
+ */
+public class InvalidETagException extends DomainException {
+
+  private InvalidETagException(final String message, final List<Error> errors) {
+    super(message, errors);
+  }
+
+  public static InvalidETagException with(final Error error) {
+    return new InvalidETagException(error.message(), List.of(error));
+  }
+}
@@ -0,0 +1,322 @@
+package com.isaque.admin.catalogo.infrastructure.utils;
+
+import com.isaque.admin.catalogo.domain.exceptions.DomainException;
+import com.isaque.admin.catalogo.domain.pagination.CountStrategy;
+import com.isaque.admin.catalogo.domain.pagination.Pagination;
+import com.isaque.admin.catalogo.domain.pagination.SearchQuery;
+import com.isaque.admin.catalogo.domain.pagination.SortDirection;
+import com.isaque.admin.catalogo.domain.pagination.SortField;
+import com.isaque.admin.catalogo.domain.pagination.SortOrder;
+import com.isaque.admin.catalogo.domain.validation.Error;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Table;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.Session;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.lang.reflect.RecordComponent;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.isaque.admin.catalogo.infrastructure.utils.SpecificationUtils.seek;
+
+public final class PaginationUtils {
+  private static final String ID = SortOrder.TIE_BREAKER;
+
+  private static final String TABLE_ROWS_QUERY = """
+      SELECT TABLE_ROWS FROM information_schema.tables
+      WHERE table_schema = DATABASE() AND table_name = ?
+      """;
+
+  private PaginationUtils() {}
+
+  /**
+   * Orders by the requested property with the id as tie-breaker, so every row has a unique
+   * position and can be resumed from with a {@link Cursor}.
+   */
+  public static Sort sortOf(final String sort, final Direction direction) {
+    final var order = Sort.by(direction, sort);
+    return ID.equals(sort) ? order : order.and(Sort.by(direction, ID));
+  }
+
+  public static Direction directionOf(final SortDirection direction) {
+    return direction.isAscending() ? Direction.ASC : Direction.DESC;
+  }
+
+  /**
+   * Lists a page of {@code type} matching {@code filter} (which may be {@code null}), by offset or by
+   * {@link SearchQuery#cursor()}, counting the matches as requested by {@link SearchQuery#count()}.
+   * The requested sort must be one of {@code sortable}; anything else is rejected before querying.
+   * A filter that orders the rows itself (a ranked search) gets no cursors back.
+   */
+  public static <T> Pagination<T> findAll(
+      final EntityManager entityManager,
+      final Class<T> type,
+      final Specification<T> filter,
+      final SearchQuery query,
+      final SortField[] sortable
+  ) {
+    return findAll(entityManager, type, Projection.entity(type), filter, query, sortable);
+  }
+
+  /**
+   * Same as {@link #findAll(EntityManager, Class, Specification, SearchQuery, SortField[])}, but
+   * each row is selected straight into {@code projection}: no managed entity, no dirty-checking
+   * snapshot. The projection must carry the id and every sortable property, for the cursors.
+   */
+  public static <T, R> Pagination<R> findAll(
+      final EntityManager entityManager,
+      final Class<T> type,
+      final Projection<T, R> projection,
+      final Specification<T> filter,
+      final SearchQuery query,
+      final SortField[] sortable
+  ) {
+    final var order = SortOrder.of(sortable, query.sort(), query.direction());
+    final var where = Specification.where(filter);
+    return query.hasCursor()
+        ? findByCursor(entityManager, type, projection, filter, where, query, order)
+        : findByOffset(entityManager, type, projection, filter, where, query, order);
+  }
+
+  private static <T, R> Pagination<R> findByOffset(
+      final EntityManager entityManager,
+      final Class<T> type,
+      final Projection<T, R> projection,
+      final Specification<T> filter,
+      final Specification<T> where,
+      final SearchQuery query,
+      final SortOrder order
+  ) {
+    final var page = PageRequest.of(
+        query.page(),
+        query.perPage(),
+        sortOf(order.property(), directionOf(order.direction()))
+    );
+
+    final var rows = findRows(entityManager, type, projection, where, page);
+    final var slice = rows.slice();
+    final var items = slice.getContent();
+
+    final long total;
+    if (query.count() == CountStrategy.EXACT && page.getOffset() == 0 && !slice.hasNext()) {
+      total = items.size();
+    } else {
+      total = count(entityManager, type, filter, where, query.count());
+    }
+
+    return new Pagination<>(
+        query.page(),
+        query.perPage(),
+        total,
+        slice.hasNext(),
+        items,
+        slice.hasNext() && rows.seekable() ? Cursor.after(items.getLast(), order.property()).encode() : null,
+        slice.hasPrevious() && rows.seekable() ? Cursor.before(items.getFirst(), order.property()).encode() : null
+    );
+  }
+
+  /**
+   * Seeks past the row encoded in {@link SearchQuery#cursor()} instead of skipping an offset, so
+   * the cost of a page does not grow with its depth.
+   */
+  private static <T, R> Pagination<R> findByCursor(
+      final EntityManager entityManager,
+      final Class<T> type,
+      final Projection<T, R> projection,
+      final Specification<T> filter,
+      final Specification<T> where,
+      final SearchQuery query,
+      final SortOrder order
+  ) {
+    final var cursor = Cursor.decode(query.cursor());
+    if (!cursor.sort().equals(order.property())) {
+      throw DomainException.with(new Error("'cursor' does not match sort '%s'".formatted(query.sort())));
+    }
+
+    final var direction = directionOf(order.direction());
+    final var scan = cursor.backward() ? reverse(direction) : direction;
+
+    final var rows = findRows(
+        entityManager,
+        type,
+        projection,
+        where.and(seek(order.property(), scan, cursor.value(), cursor.id())),
+        PageRequest.of(0, query.perPage(), sortOf(order.property(), scan))
+    );
+    final var slice = rows.slice();
+
+    final List<R> items = new ArrayList<>(slice.getContent());
+    if (cursor.backward()) {
+      Collections.reverse(items);
+    }
+
+    final var hasNext = cursor.backward() || slice.hasNext();
+    final var hasPrevious = !cursor.backward() || slice.hasNext();
+
+    return new Pagination<>(
+        query.page(),
+        query.perPage(),
+        count(entityManager, type, filter, where, query.count()),
+        hasNext,
+        items,
+        hasNext && rows.seekable() ? Cursor.after(items.getLast(), order.property()).encode() : null,
+        hasPrevious && rows.seekable() ? Cursor.before(items.getFirst(), order.property()).encode() : null
+    );
+  }
+
+  /**
+   * Fetches one row past the page size to learn whether a next page exists, without a COUNT query.
+   */
+  public static <T> Slice<T> findSlice(
+      final EntityManager entityManager,
+      final Class<T> type,
+      final Specification<T> where,
+      final Pageable page
+  ) {
+    return findRows(entityManager, type, Projection.entity(type), where, page).slice();
+  }
+
+  private static <T, R> Rows<R> findRows(
+      final EntityManager entityManager,
+      final Class<T> type,
+      final Projection<T, R> projection,
+      final Specification<T> where,
+      final Pageable page
+  ) {
+    final var cb = entityManager.getCriteriaBuilder();
+    final var criteria = cb.createQuery(projection.type());
+    final var root = criteria.from(type);
+    if (!projection.attributes().isEmpty()) {
+      criteria.select(cb.construct(
+          projection.type(),
+          projection.attributes().stream().map(root::get).toArray(Selection[]::new)
+      ));
+    }
+
+    final var predicate = where.toPredicate(root, criteria, cb);
+    if (predicate != null) {
+      criteria.where(predicate);
+    }
+    final var ranked = !criteria.getOrderList().isEmpty();
+    final var orders = new ArrayList<>(criteria.getOrderList());
+    orders.addAll(QueryUtils.toOrders(page.getSort(), root, cb));
+    criteria.orderBy(orders);
+
+    final var content = entityManager.createQuery(criteria)
+        .setFirstResult((int) page.getOffset())
+        .setMaxResults(page.getPageSize() + 1)
+        .getResultList();
+
+    final var hasNext = content.size() > page.getPageSize();
+    return new Rows<>(
+        new SliceImpl<>(hasNext ? content.subList(0, page.getPageSize()) : content, page, hasNext),
+        ranked
+    );
+  }
+
+  public static <T> long count(
+      final EntityManager entityManager,
+      final Class<T> type,
+      final Specification<T> where
+  ) {
+    final var cb = entityManager.getCriteriaBuilder();
+    final var criteria = cb.createQuery(Long.class);
+    final var root = criteria.from(type);
+
+    final var predicate = where.toPredicate(root, criteria, cb);
+    if (predicate != null) {
+      criteria.where(predicate);
+    }
+    criteria.select(cb.count(root));
+
+    return entityManager.createQuery(criteria).getSingleResult();
+  }
+
+  private static <T> long count(
+      final EntityManager entityManager,
+      final Class<T> type,
+      final Specification<T> filter,
+      final Specification<T> where,
+      final CountStrategy strategy
+  ) {
+    return switch (strategy) {
+      case NONE -> Pagination.UNKNOWN_TOTAL;
+      case ESTIMATED -> filter == null
+          ? estimate(entityManager, type, where)
+          : count(entityManager, type, where);
+      case EXACT -> count(entityManager, type, where);
+    };
+  }
+
+  /**
+   * Reads the row count InnoDB keeps in the table statistics instead of scanning the table. Only
+   * meaningful for unfiltered listings; falls back to an exact count where the statistics are not
+   * available (e.g. H2).
+   */
+  private static <T> long estimate(
+      final EntityManager entityManager,
+      final Class<T> type,
+      final Specification<T> where
+  ) {
+    final var table = type.getAnnotation(Table.class);
+    if (table == null) {
+      return count(entityManager, type, where);
+    }
+
+    final Long estimate = entityManager.unwrap(Session.class).doReturningWork(connection -> {
+      try (final var statement = connection.prepareStatement(TABLE_ROWS_QUERY)) {
+        statement.setString(1, table.name());
+        try (final var result = statement.executeQuery()) {
+          return result.next() ? result.getLong(1) : null;
+        }
+      } catch (final SQLException e) {
+        return null;
+      }
+    });
+
+    return estimate != null ? estimate : count(entityManager, type, where);
+  }
+
+  /**
+   * {@code seekable} is false when the filter ordered the rows ahead of the (sort, id) keyset, as a
+   * ranked full-text search does by relevance; a {@link Cursor} over such a page would skip or
+   * repeat rows, so none is emitted and the client pages by offset instead.
+   */
+  private record Rows<R>(Slice<R> slice, boolean ranked) {
+    boolean seekable() {
+      return !this.ranked && this.slice.hasContent();
+    }
+  }
+
+  private static Direction reverse(final Direction direction) {
+    return direction.isAscending() ? Direction.DESC : Direction.ASC;
+  }
+
+  /**
+   * Attributes of the entity {@code T} passed, in order, to a constructor of {@code R}.
+   */
+  public record Projection<T, R>(Class<R> type, List<String> attributes) {
+
+    /**
+     * Selects into a record whose components are named after attributes of {@code entity}.
+     */
+    public static <T, R extends Record> Projection<T, R> of(final Class<T> entity, final Class<R> row) {
+      return new Projection<>(row, Arrays.stream(row.getRecordComponents()).map(RecordComponent::getName).toList());
+    }
+
+    static <T> Projection<T, T> entity(final Class<T> type) {
+      return new Projection<>(type, List.of());
+    }
+  }
+}
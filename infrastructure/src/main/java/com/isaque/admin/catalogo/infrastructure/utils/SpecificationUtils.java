@@ -1,16 +1,118 @@
 package com.isaque.admin.catalogo.infrastructure.utils;
 
+import com.isaque.admin.catalogo.domain.exceptions.DomainException;
+import com.isaque.admin.catalogo.domain.validation.Error;
+import com.isaque.admin.catalogo.infrastructure.configuration.FullTextFunctionContributor;
+import jakarta.persistence.criteria.Expression;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
 public final class SpecificationUtils {
 
+    private static final int FULL_TEXT_MIN_TOKEN_SIZE = 3;
+
     private SpecificationUtils() {}
 
     public static <T> Specification<T> like(final String prop, final String term) {
         return (root, query1, cb) -> cb.like(cb.upper(root.get(prop)), like(term.toUpperCase()));
     }
 
+    /**
+     * Full-text predicate over one or two columns covered by a FULLTEXT index. Every word must match
+     * as a prefix; when {@code ranked}, rows are ordered by relevance ahead of the requested sort.
+     */
+    public static <T> Specification<T> match(final String terms, final boolean ranked, final String... props) {
+        return (root, query, cb) -> {
+            final List<Expression<?>> args = new ArrayList<>();
+            Arrays.stream(props).forEach(prop -> args.add(root.get(prop)));
+            args.add(cb.literal(booleanMode(terms)));
+
+            final var function = props.length == 1
+                    ? FullTextFunctionContributor.MATCH_AGAINST
+                    : FullTextFunctionContributor.MATCH2_AGAINST;
+            final var score = cb.function(function, Double.class, args.toArray(Expression[]::new));
+
+            if (ranked && !Long.class.equals(query.getResultType())) {
+                query.orderBy(cb.desc(score));
+            }
+            return cb.greaterThan(score, 0.0);
+        };
+    }
+
+    /**
+     * InnoDB does not index words shorter than {@code innodb_ft_min_token_size}, so such terms must
+     * still be searched with {@link #like(String, String)}.
+     */
+    public static boolean isFullTextSearchable(final String terms) {
+        final var words = words(terms);
+        return !words.isEmpty() && words.stream().allMatch(word -> word.length() >= FULL_TEXT_MIN_TOKEN_SIZE);
+    }
+
+    /**
+     * Keyset predicate for rows ordered by {@code (prop, id)} that come strictly after
+     * {@code (value, id)} in the given direction. Nulls sort first ascending and last descending,
+     * as both MySQL and H2 do.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public static <T> Specification<T> seek(
+            final String prop,
+            final Direction direction,
+            final String value,
+            final String id
+    ) {
+        return (root, query, cb) -> {
+            final Expression<Comparable> key = root.get(prop);
+            final Expression<String> idKey = root.get("id");
+            final var ascending = direction.isAscending();
+            final var sameKeyNextId = ascending ? cb.greaterThan(idKey, id) : cb.lessThan(idKey, id);
+
+            if (value == null) {
+                final var nullKey = cb.and(cb.isNull(key), sameKeyNextId);
+                return ascending ? cb.or(nullKey, cb.isNotNull(key)) : nullKey;
+            }
+
+            final Comparable parsed = parse(key.getJavaType(), value);
+            final var nextKey = ascending ? cb.greaterThan(key, parsed) : cb.lessThan(key, parsed);
+            final var sameKey = cb.and(cb.equal(key, parsed), sameKeyNextId);
+            return ascending ? cb.or(nextKey, sameKey) : cb.or(nextKey, sameKey, cb.isNull(key));
+        };
+    }
+
     private static String like(final String term) {
         return "%" + term + "%";
     }
+
+    private static String booleanMode(final String terms) {
+        return words(terms).stream()
+                .map(word -> "+" + word + "*")
+                .collect(Collectors.joining(" "));
+    }
+
+    private static List<String> words(final String terms) {
+        return Arrays.stream(terms.trim().split("\\s+"))
+                .map(word -> word.replaceAll("[+\\-<>()~*\"@]", ""))
+                .filter(word -> !word.isBlank())
+                .toList();
+    }
+
+    private static Comparable<?> parse(final Class<?> type, final String value) {
+        try {
+            if (Instant.class.equals(type)) {
+                return Instant.parse(value);
+            }
+            if (Boolean.class.equals(type) || boolean.class.equals(type)) {
+                return Boolean.valueOf(value);
+            }
+            return value;
+        } catch (final DateTimeParseException e) {
+            throw DomainException.with(new Error("'cursor' is invalid"));
+        }
+    }
 }
@@ -0,0 +1,13 @@
+DROP INDEX idx_category_genre ON genres_categories;
+
+DROP INDEX idx_genres_deleted_at ON genres;
+DROP INDEX idx_genres_active_name ON genres;
+DROP INDEX idx_genres_updated_at ON genres;
+DROP INDEX idx_genres_created_at ON genres;
+DROP INDEX idx_genres_name ON genres;
+
+DROP INDEX idx_categories_deleted_at ON categories;
+DROP INDEX idx_categories_active_name ON categories;
+DROP INDEX idx_categories_updated_at ON categories;
+DROP INDEX idx_categories_created_at ON categories;
+DROP INDEX idx_categories_name ON categories;
@@ -0,0 +1,3 @@
+ALTER TABLE genres DROP COLUMN version;
+
+ALTER TABLE categories DROP COLUMN version;
@@ -0,0 +1,15 @@
+-- Um índice por chave de ordenação aceita na listagem, com o id como desempate (mesma ordem do ORDER BY).
+CREATE INDEX idx_categories_name ON categories (name, id);
+CREATE INDEX idx_categories_created_at ON categories (created_at, id);
+CREATE INDEX idx_categories_updated_at ON categories (updated_at, id);
+CREATE INDEX idx_categories_active_name ON categories (active, name, id);
+CREATE INDEX idx_categories_deleted_at ON categories (deleted_at);
+
+CREATE INDEX idx_genres_name ON genres (name, id);
+CREATE INDEX idx_genres_created_at ON genres (created_at, id);
+CREATE INDEX idx_genres_updated_at ON genres (updated_at, id);
+CREATE INDEX idx_genres_active_name ON genres (active, name, id);
+CREATE INDEX idx_genres_deleted_at ON genres (deleted_at);
+
+-- Busca reversa: gêneros de uma categoria (e o ON DELETE CASCADE ao remover a categoria).
+CREATE INDEX idx_category_genre ON genres_categories (category_id, genre_id);
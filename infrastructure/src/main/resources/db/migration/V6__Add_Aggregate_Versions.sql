@@ -0,0 +1,5 @@
+-- Versão para concorrência otimista (@Version): cada escrita incrementa a coluna e só é aplicada
+-- se a versão lida ainda for a armazenada.
+ALTER TABLE categories ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE genres ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,10 @@
+-- Outbox transacional: eventos de domínio gravados na mesma transação do agregado e
+-- repassados em lotes (na ordem do id) pelo OutboxRelay, que apaga o lote depois de publicar.
+CREATE TABLE outbox_events (
+    id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    aggregate_type VARCHAR(64) NOT NULL,
+    aggregate_id VARCHAR(36) NOT NULL,
+    event_type VARCHAR(128) NOT NULL,
+    payload TEXT NOT NULL,
+    occurred_at DATETIME(6) NOT NULL
+);
@@ -0,0 +1,18 @@
+-- Modelo de leitura da listagem de gêneros: cada linha já traz os pares id/nome das categorias
+-- (coluna JSON materializada, MEDIUMTEXT para caber gêneros com milhares de categorias), então a
+-- listagem não precisa de uma consulta por categoria.
+-- Mantido pelo GenreViewProjector na mesma transação das escritas de gêneros e categorias.
+CREATE TABLE genre_views (
+    id BINARY(16) NOT NULL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    active BOOLEAN NOT NULL,
+    categories MEDIUMTEXT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    deleted_at DATETIME(6) NULL,
+    CONSTRAINT fk_genre_view_id FOREIGN KEY (id) REFERENCES genres(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_genre_views_name ON genre_views (name, id);
+CREATE INDEX idx_genre_views_created_at ON genre_views (created_at, id);
+CREATE INDEX idx_genre_views_updated_at ON genre_views (updated_at, id);
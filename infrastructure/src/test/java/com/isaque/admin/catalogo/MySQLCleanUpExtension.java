@@ -2,6 +2,7 @@ package com.isaque.admin.catalogo;
 
 import com.isaque.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
 import com.isaque.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import com.isaque.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.springframework.data.repository.CrudRepository;
@@ -18,7 +19,8 @@ public class MySQLCleanUpExtension implements BeforeEachCallback {
 
     cleanUp(List.of(
         appContext.getBean(GenreRepository.class),
-        appContext.getBean(CategoryRepository.class)
+        appContext.getBean(CategoryRepository.class),
+        appContext.getBean(OutboxEventRepository.class)
     ));
   }
 
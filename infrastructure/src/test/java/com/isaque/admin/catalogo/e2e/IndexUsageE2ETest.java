@@ -0,0 +1,112 @@
+package com.isaque.admin.catalogo.e2e;
+
+import com.isaque.admin.catalogo.E2ETest;
+import com.isaque.admin.catalogo.domain.category.Category;
+import com.isaque.admin.catalogo.domain.genre.Genre;
+import com.isaque.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
+import com.isaque.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
+import com.isaque.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * Fails when a list or lookup query stops being served by its index (full scan or filesort).
+ */
+@E2ETest
+@Testcontainers
+class IndexUsageE2ETest {
+  @Container
+  @SuppressWarnings("resource")
+  private static final MySQLContainer<?> MYSQL_CONTAINER =
+      new MySQLContainer<>("mysql:latest")
+          .withPassword("123456")
+          .withUsername("root")
+          .withDatabaseName("adm_videos");
+
+  @Autowired
+  private CategoryMySQLGateway categoryGateway;
+
+  @Autowired
+  private GenreRepository genreRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @DynamicPropertySource
+  static void setDatasourceProperties(final DynamicPropertyRegistry registry) {
+    registry.add("mysql.port", () -> MYSQL_CONTAINER.getMappedPort(3306));
+  }
+
+  @BeforeEach
+  void setUp() {
+    final var categories = categoryGateway.createAll(IntStream.range(0, 1_000)
+        .mapToObj(i -> Category.newCategory("Categoria " + i, "Descrição " + i, i % 3 != 0))
+        .toList());
+
+    genreRepository.saveAll(IntStream.range(0, 300)
+        .mapToObj(i -> Genre.newGenre("Gênero " + i, i % 3 != 0)
+            .addCategories(List.of(categories.get(i).getId(), categories.get(i + 1).getId())))
+        .map(GenreJpaEntity::from)
+        .toList());
+
+    jdbcTemplate.execute("ANALYZE TABLE categories, genres, genres_categories");
+  }
+
+  @ParameterizedTest
+  @CsvSource(delimiter = '|', value = {
+      "SELECT * FROM categories ORDER BY name, id LIMIT 11                              | idx_categories_name",
+      "SELECT * FROM categories ORDER BY name DESC, id DESC LIMIT 11                    | idx_categories_name",
+      "SELECT * FROM categories ORDER BY created_at, id LIMIT 11                        | idx_categories_created_at",
+      "SELECT * FROM categories ORDER BY updated_at DESC, id DESC LIMIT 11              | idx_categories_updated_at",
+      "SELECT * FROM categories WHERE active = TRUE ORDER BY name, id LIMIT 11          | idx_categories_active_name",
+      "SELECT id FROM categories WHERE deleted_at IS NOT NULL                           | idx_categories_deleted_at",
+      "SELECT * FROM genres ORDER BY name, id LIMIT 11                                  | idx_genres_name",
+      "SELECT * FROM genres ORDER BY created_at DESC, id DESC LIMIT 11                  | idx_genres_created_at",
+      "SELECT * FROM genres ORDER BY updated_at, id LIMIT 11                            | idx_genres_updated_at",
+      "SELECT * FROM genres WHERE active = TRUE ORDER BY name, id LIMIT 11              | idx_genres_active_name",
+  })
+  void givenAListQuery_whenExplained_thenShouldUseItsIndexWithoutFilesort(final String sql, final String expectedKey) {
+    assertUsesIndex(explain(sql), expectedKey);
+  }
+
+  @ParameterizedTest
+  @CsvSource(delimiter = '|', value = {
+      "SELECT genre_id FROM genres_categories WHERE category_id = (SELECT MIN(id) FROM categories) | idx_category_genre",
+  })
+  void givenAGenresOfCategoryLookup_whenExplained_thenShouldUseTheReverseIndex(final String sql, final String expectedKey) {
+    final var plan = explain(sql).stream()
+        .filter(row -> "genres_categories".equals(row.get("table")))
+        .toList();
+
+    assertUsesIndex(plan, expectedKey);
+  }
+
+  private List<Map<String, Object>> explain(final String sql) {
+    return jdbcTemplate.queryForList("EXPLAIN " + sql);
+  }
+
+  private static void assertUsesIndex(final List<Map<String, Object>> plan, final String expectedKey) {
+    Assertions.assertFalse(plan.isEmpty());
+
+    final var row = plan.get(0);
+    final var extra = Objects.toString(row.get("Extra"), "");
+
+    Assertions.assertNotEquals("ALL", row.get("type"), () -> "full scan: " + row);
+    Assertions.assertEquals(expectedKey, row.get("key"), () -> "unexpected index: " + row);
+    Assertions.assertFalse(extra.contains("Using filesort"), () -> "filesort: " + row);
+  }
+}
@@ -129,7 +129,7 @@ class CategoryE2ETest {
     }
 
     @Test
-    void asACatalogAdminIShouldBeAbleToSortAllCategoriesByDescriptionDesc() throws Exception {
+    void asACatalogAdminIShouldBeAbleToSortAllCategoriesByNameDesc() throws Exception {
         Assertions.assertTrue(MYSQL_CONTAINER.isRunning());
         Assertions.assertEquals(0, categoryRepository.count());
 
@@ -137,15 +137,31 @@ class CategoryE2ETest {
         givenACategory("Documentários", "Z", true);
         givenACategory("Séries", "A", true);
 
-        listCategories(0, 3, "", "description", "desc")
+        listCategories(0, 3, "", "name", "desc")
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.current_page", equalTo(0)))
                 .andExpect(jsonPath("$.per_page", equalTo(3)))
                 .andExpect(jsonPath("$.total", equalTo(3)))
                 .andExpect(jsonPath("$.items", hasSize(3)))
-                .andExpect(jsonPath("$.items[0].name", equalTo("Documentários")))
+                .andExpect(jsonPath("$.items[0].name", equalTo("Séries")))
                 .andExpect(jsonPath("$.items[1].name", equalTo("Filmes")))
-                .andExpect(jsonPath("$.items[2].name", equalTo("Séries")));
+                .andExpect(jsonPath("$.items[2].name", equalTo("Documentários")));
+    }
+
+    @Test
+    void asACatalogAdminIShouldNotBeAbleToSortCategoriesByAnUnsupportedField() throws Exception {
+        Assertions.assertTrue(MYSQL_CONTAINER.isRunning());
+
+        givenACategory("Filmes", "C", true);
+
+        listCategories(0, 3, "", "description", "desc")
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpect(jsonPath("$.errors[0].message", equalTo("'sort' must be one of name, createdAt, updatedAt")));
+
+        listCategories(0, 3, "", "name", "sideways")
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors[0].message", equalTo("'dir' must be one of asc or desc")));
     }
 
     @Test
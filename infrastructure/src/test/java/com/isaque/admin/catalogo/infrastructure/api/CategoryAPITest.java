@@ -2,10 +2,15 @@ package com.isaque.admin.catalogo.infrastructure.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.isaque.admin.catalogo.ControllerTest;
+import com.isaque.admin.catalogo.application.category.create.BulkCreateCategoryOutput;
+import com.isaque.admin.catalogo.application.category.create.BulkCreateCategoryUseCase;
 import com.isaque.admin.catalogo.application.category.create.CreateCategoryOutput;
 import com.isaque.admin.catalogo.application.category.create.CreateCategoryUseCase;
 import com.isaque.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.isaque.admin.catalogo.application.category.retrive.export.ExportCategoriesUseCase;
+import com.isaque.admin.catalogo.application.category.retrive.get.CategoriesByIdsOutput;
 import com.isaque.admin.catalogo.application.category.retrive.get.CategoryOutput;
+import com.isaque.admin.catalogo.application.category.retrive.get.GetCategoriesByIdsUseCase;
 import com.isaque.admin.catalogo.application.category.retrive.get.GetCategoryByIdUseCase;
 import com.isaque.admin.catalogo.application.category.retrive.list.CategoryListOutput;
 import com.isaque.admin.catalogo.application.category.retrive.list.ListCategoriesUseCase;
@@ -13,17 +18,23 @@ import com.isaque.admin.catalogo.application.category.update.UpdateCategoryOutpu
 import com.isaque.admin.catalogo.application.category.update.UpdateCategoryUseCase;
 import com.isaque.admin.catalogo.domain.category.Category;
 import com.isaque.admin.catalogo.domain.category.CategoryID;
+import com.isaque.admin.catalogo.domain.exceptions.ConflictException;
 import com.isaque.admin.catalogo.domain.exceptions.DomainException;
 import com.isaque.admin.catalogo.domain.exceptions.NotFoundException;
+import com.isaque.admin.catalogo.domain.exceptions.PreconditionFailedException;
 import com.isaque.admin.catalogo.domain.pagination.Pagination;
 import com.isaque.admin.catalogo.domain.validation.Error;
 import com.isaque.admin.catalogo.domain.validation.handler.Notification;
+import com.isaque.admin.catalogo.infrastructure.category.models.BatchGetCategoriesRequest;
 import com.isaque.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
 import com.isaque.admin.catalogo.infrastructure.category.models.UpdateCategoryRequest;
+import com.isaque.admin.catalogo.infrastructure.utils.ETags;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -31,9 +42,11 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.util.MultiValueMap;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import static io.vavr.API.Left;
 import static io.vavr.API.Right;
@@ -52,9 +65,15 @@ public class CategoryAPITest {
     @MockitoBean
     private CreateCategoryUseCase createCategoryUseCase;
 
+    @MockitoBean
+    private BulkCreateCategoryUseCase bulkCreateCategoryUseCase;
+
     @MockitoBean
     private GetCategoryByIdUseCase getCategoryByIdUseCase;
 
+    @MockitoBean
+    private GetCategoriesByIdsUseCase getCategoriesByIdsUseCase;
+
     @MockitoBean
     private UpdateCategoryUseCase updateCategoryUseCase;
 
@@ -64,6 +83,9 @@ public class CategoryAPITest {
     @MockitoBean
     private ListCategoriesUseCase listCategoriesUseCase;
 
+    @MockitoBean
+    private ExportCategoriesUseCase exportCategoriesUseCase;
+
     @Autowired
     private ObjectMapper mapper;
 
@@ -176,6 +198,119 @@ public class CategoryAPITest {
                 ));
     }
 
+    @Test
+    void givenAJsonArray_whenCallsBulkCreateCategories_thenShouldReturnItemResults() throws Exception {
+        // given
+        final var input = List.of(
+                new CreateCategoryRequest("Filmes", null, true),
+                new CreateCategoryRequest(null, null, null)
+        );
+
+        when(bulkCreateCategoryUseCase.execute(any()))
+                .thenReturn(BulkCreateCategoryOutput.from(List.of(
+                        BulkCreateCategoryOutput.Item.created(0, "123"),
+                        BulkCreateCategoryOutput.Item.failed(1, List.of(new Error("'name' must not be null")))
+                )));
+
+        // when
+        final var request = MockMvcRequestBuilders.post("/categories/bulk")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(this.mapper.writeValueAsString(input));
+
+        final var response = this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.created", equalTo(1)))
+                .andExpect(jsonPath("$.failed", equalTo(1)))
+                .andExpect(jsonPath("$.items[0].id", equalTo("123")))
+                .andExpect(jsonPath("$.items[1].errors[0].message", equalTo("'name' must not be null")));
+
+        Mockito.verify(bulkCreateCategoryUseCase, Mockito.times(1))
+                .execute(argThat(cmd -> cmd.items().size() == 2
+                        && "Filmes".equals(cmd.items().get(0).name())
+                        && cmd.items().get(1).isActive()));
+    }
+
+    @Test
+    void givenNdjsonLines_whenCallsBulkCreateCategories_thenShouldReadEveryLine() throws Exception {
+        // given
+        final var input = """
+                {"name":"Filmes","description":"A categoria mais assistida","is_active":true}
+                {"name":"Séries","is_active":false}
+                """;
+
+        when(bulkCreateCategoryUseCase.execute(any()))
+                .thenReturn(BulkCreateCategoryOutput.from(List.of(
+                        BulkCreateCategoryOutput.Item.created(0, "123"),
+                        BulkCreateCategoryOutput.Item.created(1, "456")
+                )));
+
+        // when
+        final var request = MockMvcRequestBuilders.post("/categories/bulk")
+                .contentType(CategoryAPI.NDJSON_VALUE)
+                .content(input);
+
+        final var response = this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.created", equalTo(2)));
+
+        Mockito.verify(bulkCreateCategoryUseCase, Mockito.times(1))
+                .execute(argThat(cmd -> cmd.items().size() == 2
+                        && "Séries".equals(cmd.items().get(1).name())
+                        && !cmd.items().get(1).isActive()));
+    }
+
+    @Test
+    void givenAMalformedNdjsonLine_whenCallsBulkCreateCategories_thenShouldReturnUnprocessableEntity() throws Exception {
+        final var request = MockMvcRequestBuilders.post("/categories/bulk")
+                .contentType(CategoryAPI.NDJSON_VALUE)
+                .content("{\"name\":\"Filmes\"}\n{\"name\":");
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors[0].message", equalTo("line 2 is not valid JSON")));
+
+        Mockito.verify(bulkCreateCategoryUseCase, Mockito.never()).execute(any());
+    }
+
+    @Test
+    void givenStoredCategories_whenCallsExportCategories_thenShouldStreamOneJsonPerLine() throws Exception {
+        // given
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Séries", null, false);
+
+        Mockito.doAnswer(t -> {
+            final Consumer<CategoryOutput> consumer = t.getArgument(0);
+            consumer.accept(CategoryOutput.from(filmes));
+            consumer.accept(CategoryOutput.from(series));
+            return null;
+        }).when(exportCategoriesUseCase).execute(any());
+
+        // when
+        final var asyncResult = this.mvc.perform(MockMvcRequestBuilders.get("/categories/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(MockMvcRequestBuilders.asyncDispatch(asyncResult))
+                .andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", CategoryAPI.NDJSON_VALUE));
+
+        final var actualLines = response.andReturn().getResponse().getContentAsString().split("\n");
+
+        Assertions.assertEquals(2, actualLines.length);
+        Assertions.assertEquals(filmes.getId().getValue(), this.mapper.readTree(actualLines[0]).get("id").asText());
+        Assertions.assertEquals("Séries", this.mapper.readTree(actualLines[1]).get("name").asText());
+    }
+
     @Test
     void givenAValidCategoryId_whenCallsGetCategoryById_thenShouldReturnCategory() throws Exception {
         // given
@@ -217,6 +352,112 @@ public class CategoryAPITest {
                 .execute(expectedId);
     }
 
+    @Test
+    void givenAMatchingETag_whenCallsGetCategoryById_thenShouldReturnNotModified() throws Exception {
+        // given
+        final var category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = category.getId().getValue();
+
+        Mockito.when(getCategoryByIdUseCase.execute(Mockito.any()))
+                .thenReturn(CategoryOutput.from(category));
+
+        final var etag = this.mvc.perform(MockMvcRequestBuilders.get("/categories/{id}", expectedId))
+                .andExpect(header().string(HttpHeaders.ETAG, Matchers.startsWith("\"" + expectedId + "-")))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // when
+        final var request = MockMvcRequestBuilders.get("/categories/{id}", expectedId)
+                .header(HttpHeaders.IF_NONE_MATCH, etag);
+
+        final var response = this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void givenAStaleETag_whenCallsGetCategoryById_thenShouldReturnCategory() throws Exception {
+        // given
+        final var category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = category.getId().getValue();
+        final var staleETag = "\"%s-0.0\"".formatted(expectedId);
+
+        Mockito.when(getCategoryByIdUseCase.execute(Mockito.any()))
+                .thenReturn(CategoryOutput.from(category));
+
+        // when
+        final var request = MockMvcRequestBuilders.get("/categories/{id}", expectedId)
+                .header(HttpHeaders.IF_NONE_MATCH, staleETag);
+
+        final var response = this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, Matchers.not(staleETag)))
+                .andExpect(jsonPath("$.id", equalTo(expectedId)));
+    }
+
+    @Test
+    void givenAMatchingETag_whenCallsListCategories_thenShouldReturnNotModified() throws Exception {
+        // given
+        final var expectedItems = List.of(CategoryListOutput.from(Category.newCategory("Filmes", null, true)));
+
+        Mockito.when(listCategoriesUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 10, 1, expectedItems));
+
+        final var etag = this.mvc.perform(MockMvcRequestBuilders.get("/categories"))
+                .andExpect(header().string(HttpHeaders.ETAG, Matchers.startsWith("W/\"1-1-")))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // when
+        final var request = MockMvcRequestBuilders.get("/categories")
+                .header(HttpHeaders.IF_NONE_MATCH, etag);
+
+        final var response = this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void givenIds_whenCallsBatchGetCategories_thenShouldReturnItemsInOrderAndMissingIds() throws Exception {
+        // given
+        final var series = Category.newCategory("Séries", null, true);
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var expectedIds = List.of(series.getId().getValue(), "123", filmes.getId().getValue());
+
+        when(getCategoriesByIdsUseCase.execute(any())).thenReturn(new CategoriesByIdsOutput(
+                List.of(CategoryOutput.from(series), CategoryOutput.from(filmes)),
+                List.of("123")
+        ));
+
+        // when
+        final var request = MockMvcRequestBuilders.post("/categories/batch-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(new BatchGetCategoriesRequest(expectedIds)));
+
+        final var response = this.mvc.perform(request).andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].id", equalTo(series.getId().getValue())))
+                .andExpect(jsonPath("$.items[1].name", equalTo("Filmes")))
+                .andExpect(jsonPath("$.missing", equalTo(List.of("123"))));
+
+        Mockito.verify(getCategoriesByIdsUseCase).execute(expectedIds);
+    }
+
     @Test
     public void givenAInvalidId_whenCallsGetCategory_shouldReturnNotFound() throws Exception {
         // given
@@ -272,6 +513,86 @@ public class CategoryAPITest {
                 ));
     }
 
+    @Test
+    void givenAnIfMatchETag_whenCallsUpdateCategory_thenShouldUpdateFromItsVersion() throws Exception {
+        // given
+        final var expectedId = CategoryID.unique();
+        final var expectedVersion = 4L;
+        final var ifMatch = ETags.of(expectedId.getValue(), expectedVersion, Instant.now());
+
+        final var command = new UpdateCategoryRequest("Filmes", null, true);
+
+        when(updateCategoryUseCase.execute(any()))
+                .thenReturn(Right(UpdateCategoryOutput.from(expectedId.getValue())));
+
+        //when
+        final var request = MockMvcRequestBuilders.put("/categories/{id}", expectedId.getValue())
+                .header(HttpHeaders.IF_MATCH, ifMatch)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(this.mapper.writeValueAsString(command));
+
+        final var response = this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(status().isOk());
+
+        Mockito.verify(updateCategoryUseCase, Mockito.times(1))
+                .execute(argThat(cmd -> Objects.equals(expectedVersion, cmd.version())));
+    }
+
+    @Test
+    void givenAConcurrentUpdate_whenCallsUpdateCategory_thenShouldReturnConflict() throws Exception {
+        // given
+        final var expectedId = CategoryID.unique();
+        final var expectedErrorMessage = "Category with id %s was modified by another request"
+                .formatted(expectedId.getValue());
+
+        final var command = new UpdateCategoryRequest("Filmes", null, true);
+
+        when(updateCategoryUseCase.execute(any()))
+                .thenThrow(ConflictException.with(Category.class, expectedId));
+
+        //when
+        final var request = MockMvcRequestBuilders.put("/categories/{id}", expectedId.getValue())
+                .header(HttpHeaders.IF_MATCH, ETags.of(expectedId.getValue(), 1L, Instant.now()))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(this.mapper.writeValueAsString(command));
+
+        final var response = this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+    }
+
+    @Test
+    void givenAnIfMatchOfAnOlderVersion_whenCallsUpdateCategory_thenShouldReturnPreconditionFailed() throws Exception {
+        // given
+        final var expectedId = CategoryID.unique();
+        final var expectedErrorMessage = "Category with id %s is not at the expected version"
+                .formatted(expectedId.getValue());
+
+        final var command = new UpdateCategoryRequest("Filmes", null, true);
+
+        when(updateCategoryUseCase.execute(any()))
+                .thenThrow(PreconditionFailedException.with(Category.class, expectedId));
+
+        //when
+        final var request = MockMvcRequestBuilders.put("/categories/{id}", expectedId.getValue())
+                .header(HttpHeaders.IF_MATCH, ETags.of(expectedId.getValue(), 1L, Instant.now()))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(this.mapper.writeValueAsString(command));
+
+        final var response = this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+    }
+
     @Test
     void givenACommandWithAInvalidID_whenCallsUpdateCategory_thenShouldReturnNotFoundException() throws Exception {
         // given
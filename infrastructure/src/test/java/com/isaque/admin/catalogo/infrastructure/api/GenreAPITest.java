@@ -0,0 +1,367 @@
+package com.isaque.admin.catalogo.infrastructure.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.isaque.admin.catalogo.ControllerTest;
+import com.isaque.admin.catalogo.application.genre.create.CreateGenreOutput;
+import com.isaque.admin.catalogo.application.genre.create.CreateGenreUseCase;
+import com.isaque.admin.catalogo.application.genre.delete.DeleteGenreUseCase;
+import com.isaque.admin.catalogo.application.genre.retrieve.get.GenreOutput;
+import com.isaque.admin.catalogo.application.genre.retrieve.get.GetGenreByIdUseCase;
+import com.isaque.admin.catalogo.application.genre.retrieve.list.GenreListOutput;
+import com.isaque.admin.catalogo.application.genre.retrieve.list.ListGenreUseCase;
+import com.isaque.admin.catalogo.application.genre.update.UpdateGenreOutput;
+import com.isaque.admin.catalogo.application.genre.update.UpdateGenreUseCase;
+import com.isaque.admin.catalogo.domain.category.CategoryID;
+import com.isaque.admin.catalogo.domain.exceptions.NotFoundException;
+import com.isaque.admin.catalogo.domain.exceptions.NotificationException;
+import com.isaque.admin.catalogo.domain.genre.Genre;
+import com.isaque.admin.catalogo.domain.genre.GenreID;
+import com.isaque.admin.catalogo.domain.genre.GenreView;
+import com.isaque.admin.catalogo.domain.pagination.Pagination;
+import com.isaque.admin.catalogo.domain.validation.Error;
+import com.isaque.admin.catalogo.domain.validation.handler.Notification;
+import com.isaque.admin.catalogo.infrastructure.genre.models.CreateGenreRequest;
+import com.isaque.admin.catalogo.infrastructure.genre.models.UpdateGenreRequest;
+import com.isaque.admin.catalogo.infrastructure.utils.ETags;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ControllerTest(controllers = GenreAPI.class)
+public class GenreAPITest {
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    @MockitoBean
+    private CreateGenreUseCase createGenreUseCase;
+
+    @MockitoBean
+    private GetGenreByIdUseCase getGenreByIdUseCase;
+
+    @MockitoBean
+    private UpdateGenreUseCase updateGenreUseCase;
+
+    @MockitoBean
+    private DeleteGenreUseCase deleteGenreUseCase;
+
+    @MockitoBean
+    private ListGenreUseCase listGenreUseCase;
+
+    @Test
+    void givenAValidCommand_whenCallsCreateGenre_thenShouldReturnGenreId() throws Exception {
+        // given
+        final var expectedName = "Ação";
+        final var expectedCategories = List.of("123", "456");
+        final var expectedIsActive = true;
+        final var expectedId = "789";
+
+        final var input = new CreateGenreRequest(expectedName, expectedCategories, expectedIsActive);
+
+        when(createGenreUseCase.execute(any())).thenReturn(CreateGenreOutput.from(expectedId));
+
+        // when
+        final var request = MockMvcRequestBuilders.post("/genres")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(input));
+
+        final var response = this.mvc.perform(request).andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(status().isCreated())
+                .andExpect(header().string("Location", "/genres/" + expectedId))
+                .andExpect(jsonPath("$.id", equalTo(expectedId)));
+
+        Mockito.verify(createGenreUseCase).execute(argThat(cmd ->
+                Objects.equals(expectedName, cmd.name())
+                        && Objects.equals(expectedCategories, cmd.categories())
+                        && Objects.equals(expectedIsActive, cmd.isActive())
+        ));
+    }
+
+    @Test
+    void givenAnInvalidName_whenCallsCreateGenre_thenShouldReturnNotification() throws Exception {
+        // given
+        final var expectedErrorMessage = "'name' should not be null";
+
+        final var input = new CreateGenreRequest(null, List.of(), true);
+
+        when(createGenreUseCase.execute(any())).thenThrow(new NotificationException(
+                "Could not create aggregate genre",
+                Notification.create(new Error(expectedErrorMessage))
+        ));
+
+        // when
+        final var request = MockMvcRequestBuilders.post("/genres")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(input));
+
+        final var response = this.mvc.perform(request).andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(header().doesNotExist("Location"))
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedErrorMessage)));
+    }
+
+    @Test
+    void givenAValidId_whenCallsGetGenreById_thenShouldReturnGenreWithETag() throws Exception {
+        // given
+        final var categoryId = CategoryID.from("123");
+        final var genre = Genre.newGenre("Ação", true).addCategory(categoryId);
+        final var expectedId = genre.getId().getValue();
+
+        when(getGenreByIdUseCase.execute(any())).thenReturn(GenreOutput.from(genre));
+
+        // when
+        final var request = MockMvcRequestBuilders.get("/genres/{id}", expectedId)
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request).andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, startsWith("\"" + expectedId + "-")))
+                .andExpect(jsonPath("$.id", equalTo(expectedId)))
+                .andExpect(jsonPath("$.name", equalTo(genre.getName())))
+                .andExpect(jsonPath("$.categories_id", equalTo(List.of(categoryId.getValue()))))
+                .andExpect(jsonPath("$.is_active", equalTo(true)))
+                .andExpect(jsonPath("$.updated_at", equalTo(genre.getUpdatedAt().toString())));
+    }
+
+    @Test
+    void givenAMatchingETag_whenCallsGetGenreById_thenShouldReturnNotModified() throws Exception {
+        // given
+        final var genre = Genre.newGenre("Ação", true);
+        final var expectedId = genre.getId().getValue();
+
+        when(getGenreByIdUseCase.execute(any())).thenReturn(GenreOutput.from(genre));
+
+        final var etag = this.mvc.perform(MockMvcRequestBuilders.get("/genres/{id}", expectedId))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // when
+        final var request = MockMvcRequestBuilders.get("/genres/{id}", expectedId)
+                .header(HttpHeaders.IF_NONE_MATCH, etag);
+
+        final var response = this.mvc.perform(request).andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void givenAnUnknownId_whenCallsGetGenreById_thenShouldReturnNotFound() throws Exception {
+        // given
+        final var expectedId = GenreID.from("123");
+        final var expectedErrorMessage = "Genre with id 123 was not found";
+
+        when(getGenreByIdUseCase.execute(any())).thenThrow(NotFoundException.with(Genre.class, expectedId));
+
+        // when
+        final var request = MockMvcRequestBuilders.get("/genres/{id}", expectedId.getValue());
+
+        final var response = this.mvc.perform(request).andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+    }
+
+    @Test
+    void givenValidParams_whenCallsListGenres_thenShouldReturnGenresWithWeakETag() throws Exception {
+        // given
+        final var filmes = CategoryID.from("123");
+        final var genre = Genre.newGenre("Ação", true).addCategory(filmes);
+        final var expectedItems = List.of(GenreListOutput.from(GenreView.from(genre, Map.of(filmes, "Filmes"))));
+
+        when(listGenreUseCase.execute(any())).thenReturn(new Pagination<>(0, 10, 1, expectedItems));
+
+        // when
+        final var request = MockMvcRequestBuilders.get("/genres")
+                .queryParam("search", "ac")
+                .queryParam("sort", "createdAt")
+                .queryParam("dir", "desc")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request).andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, startsWith("W/\"1-1-")))
+                .andExpect(jsonPath("$.total", equalTo(1)))
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id", equalTo(genre.getId().getValue())))
+                .andExpect(jsonPath("$.items[0].categories_id", equalTo(List.of("123"))))
+                .andExpect(jsonPath("$.items[0].categories[0].id", equalTo("123")))
+                .andExpect(jsonPath("$.items[0].categories[0].name", equalTo("Filmes")));
+
+        Mockito.verify(listGenreUseCase).execute(argThat(query ->
+                Objects.equals("ac", query.terms())
+                        && Objects.equals("createdAt", query.sort())
+                        && Objects.equals("desc", query.direction())
+        ));
+    }
+
+    @Test
+    void givenAMatchingETag_whenCallsListGenres_thenShouldReturnNotModified() throws Exception {
+        // given
+        final var expectedItems = List.of(GenreListOutput.from(GenreView.from(Genre.newGenre("Ação", true), Map.of())));
+
+        when(listGenreUseCase.execute(any())).thenReturn(new Pagination<>(0, 10, 1, expectedItems));
+
+        final var etag = this.mvc.perform(MockMvcRequestBuilders.get("/genres"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // when
+        final var request = MockMvcRequestBuilders.get("/genres")
+                .header(HttpHeaders.IF_NONE_MATCH, etag);
+
+        final var response = this.mvc.perform(request).andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void givenAValidCommand_whenCallsUpdateGenre_thenShouldReturnGenreId() throws Exception {
+        // given
+        final var expectedId = "123";
+        final var expectedName = "Ação";
+        final var expectedCategories = List.of("456");
+
+        final var input = new UpdateGenreRequest(expectedName, expectedCategories, false);
+
+        when(updateGenreUseCase.execute(any())).thenReturn(new UpdateGenreOutput(expectedId));
+
+        // when
+        final var request = MockMvcRequestBuilders.put("/genres/{id}", expectedId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(input));
+
+        final var response = this.mvc.perform(request).andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", equalTo(expectedId)));
+
+        Mockito.verify(updateGenreUseCase).execute(argThat(cmd ->
+                Objects.equals(expectedId, cmd.id())
+                        && Objects.equals(expectedName, cmd.name())
+                        && Objects.equals(expectedCategories, cmd.categories())
+                        && !cmd.isActive()
+        ));
+    }
+
+    @Test
+    void givenAnIfMatchETag_whenCallsUpdateGenre_thenShouldUpdateFromItsVersion() throws Exception {
+        // given
+        final var expectedId = GenreID.unique().getValue();
+        final var expectedVersion = 2L;
+
+        final var input = new UpdateGenreRequest("Ação", List.of(), true);
+
+        when(updateGenreUseCase.execute(any())).thenReturn(new UpdateGenreOutput(expectedId));
+
+        // when
+        final var request = MockMvcRequestBuilders.put("/genres/{id}", expectedId)
+                .header(HttpHeaders.IF_MATCH, ETags.of(expectedId, expectedVersion, Instant.now()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(input));
+
+        final var response = this.mvc.perform(request).andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(status().isOk());
+
+        Mockito.verify(updateGenreUseCase).execute(argThat(cmd -> Objects.equals(expectedVersion, cmd.version())));
+    }
+
+    @Test
+    void givenAnIfMatchOfAnotherGenre_whenCallsUpdateGenre_thenShouldReturnPreconditionFailed() throws Exception {
+        // given
+        final var expectedId = GenreID.unique().getValue();
+
+        final var input = new UpdateGenreRequest("Ação", List.of(), true);
+
+        // when
+        final var request = MockMvcRequestBuilders.put("/genres/{id}", expectedId)
+                .header(HttpHeaders.IF_MATCH, ETags.of(GenreID.unique().getValue(), 2L, Instant.now()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(input));
+
+        final var response = this.mvc.perform(request).andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.errors[0].message", equalTo("'If-Match' is not an ETag of " + expectedId)));
+
+        Mockito.verify(updateGenreUseCase, Mockito.never()).execute(any());
+    }
+
+    @Test
+    void givenAMalformedIfMatch_whenCallsUpdateGenre_thenShouldReturnBadRequest() throws Exception {
+        // given
+        final var expectedId = GenreID.unique().getValue();
+
+        final var input = new UpdateGenreRequest("Ação", List.of(), true);
+
+        // when
+        final var request = MockMvcRequestBuilders.put("/genres/{id}", expectedId)
+                .header(HttpHeaders.IF_MATCH, expectedId + "-2")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(input));
+
+        final var response = this.mvc.perform(request).andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0].message", equalTo("'If-Match' is not an entity tag")));
+
+        Mockito.verify(updateGenreUseCase, Mockito.never()).execute(any());
+    }
+
+    @Test
+    void givenAValidId_whenCallsDeleteGenre_thenShouldReturnNoContent() throws Exception {
+        // given
+        final var expectedId = "123";
+
+        // when
+        final var response = this.mvc.perform(MockMvcRequestBuilders.delete("/genres/{id}", expectedId))
+                .andDo(MockMvcResultHandlers.print());
+
+        // then
+        response.andExpect(status().isNoContent());
+
+        Mockito.verify(deleteGenreUseCase).execute(expectedId);
+    }
+}
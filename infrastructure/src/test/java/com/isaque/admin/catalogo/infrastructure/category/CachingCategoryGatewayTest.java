@@ -0,0 +1,130 @@
+package com.isaque.admin.catalogo.infrastructure.category;
+
+import com.isaque.admin.catalogo.domain.category.Category;
+import com.isaque.admin.catalogo.domain.category.CategoryGateway;
+import com.isaque.admin.catalogo.domain.category.CategoryID;
+import com.isaque.admin.catalogo.infrastructure.cache.AggregateCacheFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+
+class CachingCategoryGatewayTest {
+  private final Category filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+
+  private CategoryGateway delegate;
+  private MeterRegistry registry;
+  private CachingCategoryGateway gateway;
+
+  @BeforeEach
+  void setUp() {
+    delegate = Mockito.mock(CategoryGateway.class);
+    registry = new SimpleMeterRegistry();
+
+    final var provider = new StaticListableBeanFactory(Map.of("registry", registry))
+        .getBeanProvider(MeterRegistry.class);
+    final var cacheFactory = new AggregateCacheFactory(100, Duration.ofMinutes(1), provider);
+
+    gateway = new CachingCategoryGateway(
+        delegate,
+        cacheFactory.create("categories", Category::with),
+        cacheFactory.createExistence("category-existence")
+    );
+  }
+
+  @Test
+  void givenACachedCategory_whenCallsFindByIdTwice_thenShouldHitDelegateOnce() {
+    Mockito.when(delegate.findById(filmes.getId())).thenReturn(Optional.of(Category.with(filmes)));
+
+    gateway.findById(filmes.getId()).get().update("Mutated", null, false);
+    final var actualCategory = gateway.findById(filmes.getId()).get();
+
+    Assertions.assertEquals("Filmes", actualCategory.getName());
+    Assertions.assertTrue(actualCategory.isActive());
+    Mockito.verify(delegate, times(1)).findById(filmes.getId());
+    Assertions.assertEquals(1, registry.get("cache.gets").tag("result", "hit").functionCounter().count());
+    Assertions.assertEquals(1, registry.get("cache.gets").tag("result", "miss").functionCounter().count());
+  }
+
+  @Test
+  void givenACachedCategory_whenCallsUpdate_thenShouldReloadFromDelegate() {
+    final var updated = Category.with(filmes).update("Filmes e Séries", null, true);
+    Mockito.when(delegate.findById(filmes.getId()))
+        .thenReturn(Optional.of(Category.with(filmes)))
+        .thenReturn(Optional.of(updated));
+    Mockito.when(delegate.update(any())).thenAnswer(t -> t.getArgument(0));
+
+    gateway.findById(filmes.getId());
+    gateway.update(updated);
+
+    Assertions.assertEquals("Filmes e Séries", gateway.findById(filmes.getId()).get().getName());
+    Mockito.verify(delegate, times(2)).findById(filmes.getId());
+  }
+
+  @Test
+  void givenAMissingCategory_whenCallsFindById_thenShouldNotCacheAbsence() {
+    final var expectedId = CategoryID.from("123");
+    Mockito.when(delegate.findById(expectedId)).thenReturn(Optional.empty());
+
+    Assertions.assertTrue(gateway.findById(expectedId).isEmpty());
+    Assertions.assertTrue(gateway.findById(expectedId).isEmpty());
+
+    Mockito.verify(delegate, times(2)).findById(expectedId);
+  }
+
+  @Test
+  void givenKnownIds_whenCallsExistsByIdsTwice_thenShouldAskDelegateOnlyForIdsNotKnownToExist() {
+    final var series = Category.newCategory("Séries", null, true);
+    final var missingId = CategoryID.unique();
+    Mockito.when(delegate.existsByIds(any())).thenAnswer(t -> {
+      final List<CategoryID> ids = t.getArgument(0);
+      return ids.stream().filter(it -> !it.equals(missingId)).toList();
+    });
+
+    final var first = gateway.existsByIds(List.of(filmes.getId(), missingId));
+    final var second = gateway.existsByIds(List.of(missingId, filmes.getId(), series.getId(), filmes.getId()));
+
+    Assertions.assertEquals(List.of(filmes.getId()), first);
+    Assertions.assertEquals(List.of(filmes.getId(), series.getId()), second);
+    Mockito.verify(delegate).existsByIds(List.of(filmes.getId(), missingId));
+    Mockito.verify(delegate).existsByIds(List.of(missingId, series.getId()));
+  }
+
+  @Test
+  void givenACreatedAndThenDeletedCategory_whenCallsExistsByIds_thenShouldAskDelegateOnlyAfterTheDelete() {
+    Mockito.when(delegate.create(any())).thenAnswer(t -> t.getArgument(0));
+
+    gateway.create(filmes);
+    Assertions.assertEquals(List.of(filmes.getId()), gateway.existsByIds(List.of(filmes.getId())));
+    Mockito.verify(delegate, Mockito.never()).existsByIds(any());
+
+    gateway.deleteById(filmes.getId());
+    Assertions.assertEquals(List.of(), gateway.existsByIds(List.of(filmes.getId())));
+
+    Mockito.verify(delegate).existsByIds(List.of(filmes.getId()));
+  }
+
+  @Test
+  void givenAnIdFoundMissing_whenItIsCreatedElsewhere_thenShouldReadAsExisting() {
+    final var series = Category.newCategory("Séries", null, true);
+    Mockito.when(delegate.existsByIds(any()))
+        .thenReturn(List.of())
+        .thenReturn(List.of(series.getId()));
+
+    Assertions.assertEquals(List.of(), gateway.existsByIds(List.of(series.getId())));
+    Assertions.assertEquals(List.of(series.getId()), gateway.existsByIds(List.of(series.getId())));
+
+    Mockito.verify(delegate, times(2)).existsByIds(List.of(series.getId()));
+  }
+}
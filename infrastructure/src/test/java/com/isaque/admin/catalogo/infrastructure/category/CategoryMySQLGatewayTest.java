@@ -3,14 +3,25 @@ package com.isaque.admin.catalogo.infrastructure.category;
 import com.isaque.admin.catalogo.MySQLGatewayTest;
 import com.isaque.admin.catalogo.domain.category.Category;
 import com.isaque.admin.catalogo.domain.category.CategoryID;
+import com.isaque.admin.catalogo.domain.exceptions.ConflictException;
+import com.isaque.admin.catalogo.domain.exceptions.DomainException;
+import com.isaque.admin.catalogo.domain.exceptions.PreconditionFailedException;
+import com.isaque.admin.catalogo.domain.pagination.CountStrategy;
+import com.isaque.admin.catalogo.domain.pagination.Pagination;
 import com.isaque.admin.catalogo.domain.pagination.SearchQuery;
 import com.isaque.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
 import com.isaque.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.isaque.admin.catalogo.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import com.isaque.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @MySQLGatewayTest
 class CategoryMySQLGatewayTest {
@@ -18,6 +29,8 @@ class CategoryMySQLGatewayTest {
   private CategoryMySQLGateway gateway;
   @Autowired
   private CategoryRepository repository;
+  @Autowired
+  private OutboxEventRepository outboxRepository;
 
   @Test
   void givenAValidCategory_whenCallsCreate_thenShouldReturnANewCategory() {
@@ -54,6 +67,50 @@ class CategoryMySQLGatewayTest {
     Assertions.assertNull(actualEntity.getDeletedAt());
   }
 
+  @Test
+  void givenValidCategories_whenCallsCreateAll_thenShouldPersistAll() {
+    final var categories = IntStream.range(0, 1200)
+        .mapToObj(i -> Category.newCategory("Categoria " + i, null, true))
+        .toList();
+
+    Assertions.assertEquals(0, repository.count());
+
+    final var actualCategories = gateway.createAll(categories);
+
+    Assertions.assertEquals(1200, repository.count());
+    Assertions.assertEquals(1200, outboxRepository.count());
+    Assertions.assertEquals(categories, actualCategories);
+    Assertions.assertTrue(categories.stream().allMatch(category -> category.getDomainEvents().isEmpty()));
+    Assertions.assertEquals("Categoria 1199", repository.findById(categories.get(1199).getId().getValue()).get().getName());
+  }
+
+  @Test
+  void givenPrePersistedCategories_whenCallsForEach_thenShouldVisitAllOrderedById() {
+    final var categories = IntStream.range(0, 30)
+        .mapToObj(i -> Category.newCategory("Categoria " + i, null, true))
+        .toList();
+    repository.saveAllAndFlush(categories.stream().map(CategoryJpaEntity::from).toList());
+
+    final var actualIds = new ArrayList<String>();
+    gateway.forEach(category -> actualIds.add(category.getId().getValue()));
+
+    final var expectedIds = categories.stream().map(category -> category.getId().getValue()).sorted().toList();
+    Assertions.assertEquals(expectedIds, actualIds);
+  }
+
+  @Test
+  void givenMoreCategoriesThanAChunk_whenCallsForEach_thenShouldVisitEachOnceAcrossChunks() {
+    final var categories = gateway.createAll(IntStream.range(0, 1_001)
+        .mapToObj(i -> Category.newCategory("Categoria " + i, null, true))
+        .toList());
+
+    final var actualIds = new ArrayList<String>();
+    gateway.forEach(category -> actualIds.add(category.getId().getValue()));
+
+    final var expectedIds = categories.stream().map(category -> category.getId().getValue()).sorted().toList();
+    Assertions.assertEquals(expectedIds, actualIds);
+  }
+
   @Test
   void givenAValidCategory_whenCallsUpdate_thenShouldReturnCategoryUpdated() {
     final var expectedName = "Filmes";
@@ -72,7 +129,8 @@ class CategoryMySQLGatewayTest {
     Assertions.assertNull(actualInvalidEntity.getDescription());
     Assertions.assertEquals(expectedIsActive, actualInvalidEntity.isActive());
 
-    final var updatedCategory = category.clone().update(expectedName, expectedDescription, expectedIsActive);
+    final var updatedCategory = gateway.findById(category.getId()).get()
+        .update(expectedName, expectedDescription, expectedIsActive);
     final var actualCategory = gateway.update(updatedCategory);
 
     Assertions.assertEquals(1, repository.count());
@@ -98,6 +156,101 @@ class CategoryMySQLGatewayTest {
     Assertions.assertNull(actualEntity.getDeletedAt());
   }
 
+  @Test
+  void givenTwoUpdatesFromTheSameVersion_whenCallsUpdate_thenShouldRejectTheSecond() {
+    final var category = gateway.create(Category.newCategory("Film", null, true));
+    Assertions.assertEquals(0L, category.getVersion());
+
+    final var first = gateway.findById(category.getId()).get();
+    final var second = gateway.findById(category.getId()).get();
+
+    final var actualCategory = gateway.update(first.update("Filmes", null, true));
+    Assertions.assertEquals(1L, actualCategory.getVersion());
+
+    final var staleUpdate = second.update("Séries", null, true);
+    final var actualException = Assertions.assertThrows(ConflictException.class, () -> gateway.update(staleUpdate));
+
+    Assertions.assertEquals(
+        "Category with id %s was modified by another request".formatted(category.getId().getValue()),
+        actualException.getMessage()
+    );
+  }
+
+  @Test
+  void givenAnExpectedVersion_whenStoredCategoryIsAtAnother_thenShouldThrowPreconditionFailed() {
+    final var category = gateway.create(Category.newCategory("Film", null, true));
+    gateway.update(gateway.findById(category.getId()).get().update("Filmes", null, true));
+
+    final var update = gateway.findById(category.getId()).get().update("Séries", null, true);
+    final var actualException = Assertions.assertThrows(PreconditionFailedException.class, () -> gateway.update(update, 0L));
+
+    Assertions.assertEquals(
+        "Category with id %s is not at the expected version".formatted(category.getId().getValue()),
+        actualException.getMessage()
+    );
+    Assertions.assertEquals("Filmes", repository.findById(category.getId().getValue()).get().getName());
+  }
+
+  @Test
+  void givenAStaleCopy_whenExpectedVersionMatchesTheStoredCategory_thenShouldUpdate() {
+    final var category = gateway.create(Category.newCategory("Film", null, true));
+    final var staleCategory = gateway.findById(category.getId()).get();
+    gateway.update(gateway.findById(category.getId()).get().update("Filmes", null, true));
+
+    final var actualCategory = gateway.update(staleCategory.update("Séries", null, true), 1L);
+
+    Assertions.assertEquals("Séries", actualCategory.getName());
+    Assertions.assertEquals(2L, actualCategory.getVersion());
+  }
+
+  @Test
+  void givenACategoryWithoutVersion_whenCallsUpdate_thenShouldNotUpdate() {
+    final var category = Category.newCategory("Film", null, true);
+    repository.saveAndFlush(CategoryJpaEntity.from(category));
+
+    final var unversionedUpdate = Category.with(category).update("Filmes", null, true);
+    Assertions.assertThrows(NullPointerException.class, () -> gateway.update(unversionedUpdate));
+
+    Assertions.assertEquals("Film", repository.findById(category.getId().getValue()).get().getName());
+  }
+
+  @Test
+  void givenAnUpdatedCategory_whenCallsUpdate_thenShouldAppendItsEventsToTheOutbox() {
+    final var category = gateway.create(Category.newCategory("Film", null, true));
+    Assertions.assertEquals(1, outboxRepository.count());
+
+    final var updatedCategory = category.update("Filmes", "A categoria mais assistida", false);
+    gateway.update(updatedCategory);
+
+    final var actualEvents = outboxRepository.findAll().stream()
+        .sorted(Comparator.comparing(OutboxEventJpaEntity::getId))
+        .toList();
+    Assertions.assertEquals(2, actualEvents.size());
+    Assertions.assertTrue(updatedCategory.getDomainEvents().isEmpty());
+
+    final var actualEvent = actualEvents.get(1);
+    Assertions.assertEquals("Category", actualEvent.getAggregateType());
+    Assertions.assertEquals(category.getId().getValue(), actualEvent.getAggregateId());
+    Assertions.assertEquals("CategoryUpdated", actualEvent.getEventType());
+    Assertions.assertEquals(updatedCategory.getUpdatedAt(), actualEvent.getOccurredAt());
+    Assertions.assertTrue(actualEvent.getPayload().contains("\"name\":\"Filmes\""));
+    Assertions.assertTrue(actualEvent.getPayload().contains("\"active\":false"));
+  }
+
+  @Test
+  void givenAConflictingUpdate_whenCallsUpdate_thenShouldNotAppendItsEvents() {
+    final var category = gateway.create(Category.newCategory("Film", null, true));
+    final var staleCategory = gateway.findById(category.getId()).get();
+    gateway.update(gateway.findById(category.getId()).get().deactivate());
+    Assertions.assertEquals(2, outboxRepository.count());
+
+    final var staleUpdate = staleCategory.update("Séries", null, true);
+    Assertions.assertThrows(ConflictException.class, () -> gateway.update(staleUpdate));
+
+    Assertions.assertEquals(2, outboxRepository.count());
+    Assertions.assertEquals(1, staleUpdate.getDomainEvents().size());
+  }
+
   @Test
   void givenAPrePersistedCategoryAndValidCategoryId_whenTryToDeleteIt_thenShouldDeleteCategory() {
     final var category = Category.newCategory("Filmes", null, true);
@@ -115,6 +268,25 @@ class CategoryMySQLGatewayTest {
     Assertions.assertEquals(0, repository.count());
   }
 
+  @Test
+  void givenACreatedCategory_whenCallsDeleteById_thenShouldAppendCreatedAndDeletedToTheOutbox() {
+    final var category = gateway.create(Category.newCategory("Filmes", "A categoria mais assistida", true));
+
+    gateway.deleteById(category.getId());
+    gateway.deleteById(category.getId());
+
+    final var actualEvents = outboxRepository.findAll().stream()
+        .sorted(Comparator.comparing(OutboxEventJpaEntity::getId))
+        .toList();
+    Assertions.assertEquals(
+        List.of("CategoryCreated", "CategoryDeleted"),
+        actualEvents.stream().map(OutboxEventJpaEntity::getEventType).toList()
+    );
+    Assertions.assertTrue(actualEvents.stream()
+        .allMatch(event -> event.getAggregateId().equals(category.getId().getValue())));
+    Assertions.assertTrue(actualEvents.get(0).getPayload().contains("\"name\":\"Filmes\""));
+  }
+
   @Test
   void givenAPrePersistedCategoryAndValidCategoryId_whenCallsFindById_thenShouldReturnCategory() {
     final var expectedName = "Filmes";
@@ -142,6 +314,26 @@ class CategoryMySQLGatewayTest {
     Assertions.assertNull(actualCategory.getDeletedAt());
   }
 
+  @Test
+  void givenMoreIdsThanOneInChunk_whenCallsFindAllByIds_thenShouldReturnEveryStoredCategory() {
+    final var categories = gateway.createAll(IntStream.range(0, 1500)
+        .mapToObj(i -> Category.newCategory("Categoria " + i, null, true))
+        .toList());
+
+    final var ids = new ArrayList<CategoryID>();
+    categories.forEach(category -> ids.add(category.getId()));
+    ids.add(CategoryID.from("invalid"));
+    ids.add(CategoryID.unique());
+
+    final var actualCategories = gateway.findAllByIds(ids);
+
+    Assertions.assertEquals(1500, actualCategories.size());
+    Assertions.assertEquals(
+        categories.stream().map(Category::getId).collect(Collectors.toSet()),
+        actualCategories.stream().map(Category::getId).collect(Collectors.toSet())
+    );
+  }
+
   @Test
   void givenAValidCategoryIdNotStored_whenCallsFindById_thenShouldReturnEmpty() {
     Assertions.assertEquals(0, repository.count());
@@ -179,6 +371,16 @@ class CategoryMySQLGatewayTest {
     Assertions.assertEquals(docs.getId(), actualResult.items().get(0).getId());
   }
 
+  @Test
+  void givenAnUnsupportedSort_whenCallsFindAll_thenShouldRejectItBeforeQuerying() {
+    final var expectedErrorMessage = "'sort' must be one of name, createdAt, updatedAt";
+
+    final var query = new SearchQuery(0, 1, "", "description", "asc");
+    final var actualException = Assertions.assertThrows(DomainException.class, () -> gateway.findAll(query));
+
+    Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+  }
+
   @Test
   void givenEmptyCategoriesTable_whenCallsFindAll_thenShouldReturnEmptyPage() {
     final var expectedPage = 0;
@@ -248,6 +450,112 @@ class CategoryMySQLGatewayTest {
     Assertions.assertEquals(series.getId(), actualResult.items().get(0).getId());
   }
 
+  @Test
+  void givenFollowCursor_whenCallsFindAllWithNextAndPreviousCursor_thenShouldSeekPages() {
+    final var expectedPerPage = 1;
+    final var expectedTotal = 3;
+
+    final var filmes = Category.newCategory("Filmes", null, true);
+    final var series = Category.newCategory("Séries", null, true);
+    final var docs = Category.newCategory("Documentarios", null, true);
+
+    repository.saveAll(List.of(
+        CategoryJpaEntity.from(filmes),
+        CategoryJpaEntity.from(series),
+        CategoryJpaEntity.from(docs)
+    ));
+
+    var actualResult = gateway.findAll(new SearchQuery(0, expectedPerPage, "", "name", "asc"));
+
+    Assertions.assertEquals(docs.getId(), actualResult.items().get(0).getId());
+    Assertions.assertNotNull(actualResult.nextCursor());
+    Assertions.assertNull(actualResult.previousCursor());
+
+    // NEXT
+    actualResult = gateway.findAll(new SearchQuery(0, expectedPerPage, "", "name", "asc", actualResult.nextCursor()));
+
+    Assertions.assertEquals(expectedTotal, actualResult.total());
+    Assertions.assertEquals(expectedPerPage, actualResult.items().size());
+    Assertions.assertEquals(filmes.getId(), actualResult.items().get(0).getId());
+    Assertions.assertNotNull(actualResult.previousCursor());
+
+    // LAST
+    actualResult = gateway.findAll(new SearchQuery(0, expectedPerPage, "", "name", "asc", actualResult.nextCursor()));
+
+    Assertions.assertEquals(series.getId(), actualResult.items().get(0).getId());
+    Assertions.assertNull(actualResult.nextCursor());
+
+    // PREVIOUS
+    actualResult = gateway.findAll(new SearchQuery(0, expectedPerPage, "", "name", "asc", actualResult.previousCursor()));
+
+    Assertions.assertEquals(filmes.getId(), actualResult.items().get(0).getId());
+    Assertions.assertNotNull(actualResult.nextCursor());
+    Assertions.assertNotNull(actualResult.previousCursor());
+  }
+
+  @Test
+  void givenNoneCountStrategy_whenCallsFindAll_thenShouldSkipCountAndReturnHasNext() {
+    final var expectedPerPage = 2;
+
+    repository.saveAll(List.of(
+        CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+        CategoryJpaEntity.from(Category.newCategory("Séries", null, true)),
+        CategoryJpaEntity.from(Category.newCategory("Documentarios", null, true))
+    ));
+
+    var actualResult = gateway.findAll(
+        new SearchQuery(0, expectedPerPage, "", "name", "asc", null, CountStrategy.NONE));
+
+    Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+    Assertions.assertEquals(expectedPerPage, actualResult.items().size());
+    Assertions.assertTrue(actualResult.hasNext());
+
+    actualResult = gateway.findAll(
+        new SearchQuery(1, expectedPerPage, "", "name", "asc", null, CountStrategy.NONE));
+
+    Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+    Assertions.assertEquals(1, actualResult.items().size());
+    Assertions.assertFalse(actualResult.hasNext());
+  }
+
+  @Test
+  void givenACursorWithoutCountStrategy_whenCallsFindAll_thenShouldCountOnlyWhenAsked() {
+    repository.saveAll(List.of(
+        CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+        CategoryJpaEntity.from(Category.newCategory("Séries", null, true)),
+        CategoryJpaEntity.from(Category.newCategory("Documentarios", null, true))
+    ));
+
+    final var firstPage = gateway.findAll(new SearchQuery(0, 1, "", "name", "asc"));
+    Assertions.assertEquals(3, firstPage.total());
+
+    var actualResult = gateway.findAll(new SearchQuery(0, 1, "", "name", "asc", firstPage.nextCursor()));
+
+    Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+    Assertions.assertEquals(1, actualResult.items().size());
+    Assertions.assertTrue(actualResult.hasNext());
+
+    actualResult = gateway.findAll(
+        new SearchQuery(0, 1, "", "name", "asc", firstPage.nextCursor(), CountStrategy.EXACT));
+
+    Assertions.assertEquals(3, actualResult.total());
+  }
+
+  @Test
+  void givenEstimatedCountStrategy_whenCallsFindAllWithTerms_thenShouldReturnExactTotal() {
+    repository.saveAll(List.of(
+        CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+        CategoryJpaEntity.from(Category.newCategory("Séries", null, true)),
+        CategoryJpaEntity.from(Category.newCategory("Documentarios", null, true))
+    ));
+
+    final var actualResult = gateway.findAll(
+        new SearchQuery(0, 1, "ri", "name", "asc", null, CountStrategy.ESTIMATED));
+
+    Assertions.assertEquals(2, actualResult.total());
+    Assertions.assertTrue(actualResult.hasNext());
+  }
+
   @Test
   void givenPrePersistedCategoriesAndDocAsTerms_whenCallsFindAllAndTermsMatchesCategoryName_thenShouldReturnPaginated() {
     final var expectedPage = 0;
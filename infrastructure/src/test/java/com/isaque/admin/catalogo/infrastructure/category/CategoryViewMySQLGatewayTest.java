@@ -0,0 +1,81 @@
+package com.isaque.admin.catalogo.infrastructure.category;
+
+import com.isaque.admin.catalogo.MySQLGatewayTest;
+import com.isaque.admin.catalogo.domain.category.Category;
+import com.isaque.admin.catalogo.domain.pagination.SearchQuery;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@MySQLGatewayTest
+class CategoryViewMySQLGatewayTest {
+  @Autowired
+  private CategoryMySQLGateway categoryGateway;
+
+  @Autowired
+  private CategoryViewMySQLGateway categoryViewGateway;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Test
+  void givenPersistedCategories_whenCallsFindAll_thenShouldReturnViewsWithoutLoadingEntities() {
+    // given
+    final var filmes = categoryGateway.create(Category.newCategory("Filmes", "A mais assistida", true));
+    final var series = categoryGateway.create(Category.newCategory("Séries", null, false));
+    entityManager.flush();
+    entityManager.clear();
+
+    final var statistics = entityManager.getEntityManagerFactory()
+        .unwrap(SessionFactory.class)
+        .getStatistics();
+    statistics.setStatisticsEnabled(true);
+    statistics.clear();
+
+    // when
+    final var actualPage = categoryViewGateway.findAll(new SearchQuery(0, 10, "", "name", "asc"));
+
+    // then
+    Assertions.assertEquals(0, statistics.getEntityLoadCount());
+    Assertions.assertEquals(2, actualPage.total());
+
+    final var actualView = actualPage.items().getFirst();
+    Assertions.assertEquals(filmes.getId(), actualView.id());
+    Assertions.assertEquals("Filmes", actualView.name());
+    Assertions.assertEquals("A mais assistida", actualView.description());
+    Assertions.assertTrue(actualView.active());
+    Assertions.assertNull(actualView.deletedAt());
+
+    final var inactiveView = actualPage.items().get(1);
+    Assertions.assertEquals(series.getId(), inactiveView.id());
+    Assertions.assertFalse(inactiveView.active());
+    Assertions.assertNotNull(inactiveView.deletedAt());
+  }
+
+  @Test
+  void givenFollowCursor_whenCallsFindAll_thenShouldSeekProjectedPages() {
+    // given
+    final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+    final var series = categoryGateway.create(Category.newCategory("Séries", null, true));
+    final var docs = categoryGateway.create(Category.newCategory("Documentarios", null, true));
+
+    // when
+    var actualResult = categoryViewGateway.findAll(new SearchQuery(0, 1, "", "name", "asc"));
+
+    // then
+    Assertions.assertEquals(docs.getId(), actualResult.items().getFirst().id());
+    Assertions.assertNotNull(actualResult.nextCursor());
+
+    actualResult = categoryViewGateway.findAll(new SearchQuery(0, 1, "", "name", "asc", actualResult.nextCursor()));
+    Assertions.assertEquals(filmes.getId(), actualResult.items().getFirst().id());
+
+    actualResult = categoryViewGateway.findAll(new SearchQuery(0, 1, "", "name", "asc", actualResult.nextCursor()));
+    Assertions.assertEquals(series.getId(), actualResult.items().getFirst().id());
+    Assertions.assertNull(actualResult.nextCursor());
+
+    actualResult = categoryViewGateway.findAll(new SearchQuery(0, 1, "", "name", "asc", actualResult.previousCursor()));
+    Assertions.assertEquals(filmes.getId(), actualResult.items().getFirst().id());
+  }
+}
@@ -0,0 +1,143 @@
+package com.isaque.admin.catalogo.infrastructure.category.search;
+
+import com.isaque.admin.catalogo.domain.category.Category;
+import com.isaque.admin.catalogo.domain.exceptions.DomainException;
+import com.isaque.admin.catalogo.domain.pagination.SearchQuery;
+import com.isaque.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.isaque.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+
+class InMemoryCategorySearchIndexTest {
+  private final Category filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+  private final Category series = Category.newCategory("Séries", "Uma categoria assistida", true);
+  private final Category docs = Category.newCategory("Documentários", "A categoria menos assistida", true);
+
+  private CategoryRepository repository;
+  private InMemoryCategorySearchIndex index;
+
+  @BeforeEach
+  void setUp() {
+    repository = Mockito.mock(CategoryRepository.class);
+    Mockito.when(repository.findByIdGreaterThanOrderByIdAsc(anyString(), any()))
+        .thenReturn(List.of(
+            CategoryJpaEntity.from(filmes),
+            CategoryJpaEntity.from(series),
+            CategoryJpaEntity.from(docs)
+        ));
+
+    index = new InMemoryCategorySearchIndex(repository, true);
+    index.loadAll();
+  }
+
+  @Test
+  void givenALoadedIndex_whenSearchesASubstring_thenShouldReturnMatches() {
+    final var actualResult = index.search(new SearchQuery(0, 10, "MAIS ASSISTIDA", "name", "asc")).get();
+
+    Assertions.assertEquals(1, actualResult.total());
+    Assertions.assertEquals(filmes.getId(), actualResult.items().get(0).getId());
+  }
+
+  @Test
+  void givenALoadedIndex_whenSearchesWithoutAccents_thenShouldReturnSortedPage() {
+    final var actualResult = index.search(new SearchQuery(0, 2, "categoria", "name", "desc")).get();
+
+    Assertions.assertEquals(3, actualResult.total());
+    Assertions.assertEquals(2, actualResult.items().size());
+    Assertions.assertEquals(series.getId(), actualResult.items().get(0).getId());
+    Assertions.assertEquals(filmes.getId(), actualResult.items().get(1).getId());
+    Assertions.assertTrue(actualResult.hasNext());
+  }
+
+  @Test
+  void givenALoadedIndex_whenCategoryIsUpdatedAndRemoved_thenShouldReflectChanges() {
+    index.index(Category.with(series).update("Novelas", null, true));
+
+    Assertions.assertEquals(0, index.search(new SearchQuery(0, 10, "series", "name", "asc")).get().total());
+    Assertions.assertEquals(1, index.search(new SearchQuery(0, 10, "nov", "name", "asc")).get().total());
+
+    index.remove(filmes.getId());
+
+    Assertions.assertEquals(0, index.search(new SearchQuery(0, 10, "fil", "name", "asc")).get().total());
+  }
+
+  @Test
+  void givenALoadedIndex_whenSearches_thenShouldBuildThePageWithoutTheDatabase() {
+    final var actualResult = index.search(new SearchQuery(0, 10, "docu", "name", "asc")).get();
+
+    final var actualCategory = actualResult.items().get(0);
+    Assertions.assertEquals(docs.getId(), actualCategory.getId());
+    Assertions.assertEquals("Documentários", actualCategory.getName());
+    Assertions.assertEquals("A categoria menos assistida", actualCategory.getDescription());
+    Assertions.assertTrue(actualCategory.isActive());
+    Assertions.assertEquals(docs.getCreatedAt(), actualCategory.getCreatedAt());
+    Assertions.assertEquals(docs.getUpdatedAt(), actualCategory.getUpdatedAt());
+    Assertions.assertNull(actualCategory.getDeletedAt());
+
+    Mockito.verify(repository, Mockito.never()).findAllById(any());
+  }
+
+  @Test
+  void givenATermWithoutAThreeCharacterWord_whenSearches_thenShouldLeaveItToTheDatabase() {
+    Assertions.assertTrue(index.search(new SearchQuery(0, 10, "ri", "name", "asc")).isEmpty());
+    Assertions.assertTrue(index.search(new SearchQuery(0, 10, "a ca", "name", "asc")).isEmpty());
+    Assertions.assertEquals(1, index.search(new SearchQuery(0, 10, "a categoria me", "name", "asc")).get().total());
+  }
+
+  @Test
+  void givenAnInvalidDirection_whenSearches_thenShouldThrowDomainException() {
+    final var actualException = Assertions.assertThrows(DomainException.class,
+        () -> index.search(new SearchQuery(0, 10, "fil", "name", "sideways")));
+
+    Assertions.assertEquals("'dir' must be one of asc or desc", actualException.getMessage());
+  }
+
+  @Test
+  void givenATransaction_whenCategoryIsIndexedAndRemoved_thenShouldApplyOnlyOnCommit() {
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      index.index(Category.with(series).update("Novelas", null, true));
+      index.remove(filmes.getId());
+
+      Assertions.assertEquals(1, index.search(new SearchQuery(0, 10, "series", "name", "asc")).get().total());
+      Assertions.assertEquals(1, index.search(new SearchQuery(0, 10, "filmes", "name", "asc")).get().total());
+
+      TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    Assertions.assertEquals(0, index.search(new SearchQuery(0, 10, "series", "name", "asc")).get().total());
+    Assertions.assertEquals(1, index.search(new SearchQuery(0, 10, "novelas", "name", "asc")).get().total());
+    Assertions.assertEquals(0, index.search(new SearchQuery(0, 10, "filmes", "name", "asc")).get().total());
+  }
+
+  @Test
+  void givenARolledBackTransaction_whenCategoryWasRemoved_thenShouldKeepIt() {
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      index.remove(filmes.getId());
+
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(it -> it.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    Assertions.assertEquals(1, index.search(new SearchQuery(0, 10, "filmes", "name", "asc")).get().total());
+  }
+
+  @Test
+  void givenACursorQuery_whenSearches_thenShouldNotAnswer() {
+    Assertions.assertTrue(index.search(new SearchQuery(0, 10, "fil", "name", "asc", "abc")).isEmpty());
+  }
+}
@@ -0,0 +1,45 @@
+package com.isaque.admin.catalogo.infrastructure.configuration;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+class BoundedDataSourceTest {
+
+  @Test
+  void givenAllPermitsInUse_whenCallsGetConnection_thenShouldTimeOutUntilOneIsClosed() throws SQLException {
+    // given
+    final var target = Mockito.mock(DataSource.class);
+    Mockito.when(target.getConnection()).thenAnswer(t -> Mockito.mock(Connection.class));
+    final var dataSource = new BoundedDataSource(target, 1, Duration.ofMillis(20));
+
+    // when
+    final var connection = dataSource.getConnection();
+
+    // then
+    Assertions.assertEquals(0, dataSource.availablePermits());
+    Assertions.assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+
+    connection.close();
+    connection.close();
+
+    Assertions.assertEquals(1, dataSource.availablePermits());
+    Assertions.assertNotNull(dataSource.getConnection());
+  }
+
+  @Test
+  void givenAFailingPool_whenCallsGetConnection_thenShouldGiveThePermitBack() throws SQLException {
+    final var target = Mockito.mock(DataSource.class);
+    Mockito.when(target.getConnection()).thenThrow(new SQLException("pool exhausted"));
+    final var dataSource = new BoundedDataSource(target, 1, Duration.ofMillis(20));
+
+    Assertions.assertThrows(SQLException.class, dataSource::getConnection);
+    Assertions.assertEquals(1, dataSource.availablePermits());
+  }
+}
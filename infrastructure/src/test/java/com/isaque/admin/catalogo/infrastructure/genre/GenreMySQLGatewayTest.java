@@ -3,12 +3,20 @@ package com.isaque.admin.catalogo.infrastructure.genre;
 import com.isaque.admin.catalogo.MySQLGatewayTest;
 import com.isaque.admin.catalogo.domain.category.Category;
 import com.isaque.admin.catalogo.domain.category.CategoryID;
+import com.isaque.admin.catalogo.domain.exceptions.ConflictException;
+import com.isaque.admin.catalogo.domain.exceptions.NotificationException;
+import com.isaque.admin.catalogo.domain.exceptions.PreconditionFailedException;
 import com.isaque.admin.catalogo.domain.genre.Genre;
 import com.isaque.admin.catalogo.domain.genre.GenreID;
 import com.isaque.admin.catalogo.domain.pagination.SearchQuery;
 import com.isaque.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
+import com.isaque.admin.catalogo.infrastructure.genre.persistence.GenreCategoryJpaEntity;
 import com.isaque.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
 import com.isaque.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import com.isaque.admin.catalogo.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import com.isaque.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -17,6 +25,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.stream.IntStream;
 
 @MySQLGatewayTest
 class GenreMySQLGatewayTest {
@@ -29,6 +38,12 @@ class GenreMySQLGatewayTest {
   @Autowired
   private GenreRepository genreRepository;
 
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private OutboxEventRepository outboxRepository;
+
   @Test
   void testDependencyInjection() {
     Assertions.assertNotNull(categoryGateway);
@@ -75,6 +90,30 @@ class GenreMySQLGatewayTest {
     Assertions.assertNull(persistedGenre.getDeletedAt());
   }
 
+  @Test
+  void givenADeletedCategory_whenCallsCreateGenre_thenShouldThrowNotificationException() {
+    // given
+    final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+    final var series = categoryGateway.create(Category.newCategory("Séries", null, true));
+    categoryGateway.deleteById(series.getId());
+    entityManager.flush();
+
+    final var genre = Genre.newGenre("Aventura", true);
+    genre.addCategories(List.of(filmes.getId(), series.getId()));
+
+    // when
+    final var actualException = Assertions.assertThrows(NotificationException.class, () ->
+        genreGateway.create(genre)
+    );
+
+    // then
+    Assertions.assertEquals(1, actualException.getErrors().size());
+    Assertions.assertEquals(
+        "Some categories could not be found: %s".formatted(series.getId().getValue()),
+        actualException.getErrors().getFirst().message()
+    );
+  }
+
   @Test
   void givenAValideGenreWithoutCategories_whenCallsCreateGenre_thenShouldPersistGenre() {
     final var expectedName = "Aventura";
@@ -303,6 +342,32 @@ class GenreMySQLGatewayTest {
   }
 
   @Test
+  void givenAGenreWithCategories_whenCallsDeleteById_thenShouldDeleteItsRowsInTwoStatements() {
+    // given
+    final var categories = categoryGateway.createAll(IntStream.range(0, 50)
+        .mapToObj(i -> Category.newCategory("Categoria " + i, null, true))
+        .toList());
+    final var genre = genreGateway.create(Genre.newGenre("Ação", true)
+        .addCategories(categories.stream().map(Category::getId).toList()));
+    entityManager.flush();
+    entityManager.clear();
+
+    final var statistics = entityManager.getEntityManagerFactory()
+        .unwrap(SessionFactory.class)
+        .getStatistics();
+    statistics.setStatisticsEnabled(true);
+    statistics.clear();
+
+    // when
+    genreGateway.deleteById(genre.getId());
+
+    // then
+    Assertions.assertEquals(3, statistics.getPrepareStatementCount());
+    Assertions.assertEquals(0, genreRepository.count());
+    Assertions.assertTrue(genreRepository.findCategoryIdsByGenreIds(List.of(genre.getId().getValue())).isEmpty());
+  }
+
+    @Test
   void givenAInvalidGenre_whenCallsDeleteById_thenShouldDeleteGenre() {
     //given
     Assertions.assertEquals(0, genreRepository.count());
@@ -314,6 +379,17 @@ class GenreMySQLGatewayTest {
     Assertions.assertEquals(0, genreRepository.count());
   }
 
+  @Test
+  void givenAPersistedGenre_whenCallsDeleteById_thenShouldAppendGenreDeletedToTheOutbox() {
+    final var genre = genreGateway.create(Genre.newGenre("Ação", true));
+    Assertions.assertEquals(List.of("GenreCreated"), eventTypesOf(genre.getId()));
+
+    genreGateway.deleteById(genre.getId());
+    genreGateway.deleteById(genre.getId());
+
+    Assertions.assertEquals(List.of("GenreCreated", "GenreDeleted"), eventTypesOf(genre.getId()));
+  }
+
   @Test
   void givenAPrePersistedGenre_whenCallsFindById_thenShouldReturnGenre() {
     // given
@@ -504,10 +580,160 @@ class GenreMySQLGatewayTest {
     }
   }
 
+  @ParameterizedTest
+  @CsvSource({
+      "0,5,2",
+      "0,2,3",
+      "1,2,3",
+  })
+  void givenGenresWithCategories_whenCallsFindAll_thenShouldRunConstantStatementsPerPage(
+      final int expectedPage,
+      final int expectedPerPage,
+      final long expectedStatements
+  ) {
+    // given
+    final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+    final var series = categoryGateway.create(Category.newCategory("Séries", null, true));
+    final var expectedCategories = sorted(List.of(filmes.getId(), series.getId()));
+
+    genreRepository.saveAllAndFlush(List.of(
+        GenreJpaEntity.from(Genre.newGenre("Ação", true).addCategories(expectedCategories)),
+        GenreJpaEntity.from(Genre.newGenre("Drama", true).addCategories(expectedCategories)),
+        GenreJpaEntity.from(Genre.newGenre("Terror", true).addCategories(expectedCategories)),
+        GenreJpaEntity.from(Genre.newGenre("Comédia", true).addCategories(expectedCategories)),
+        GenreJpaEntity.from(Genre.newGenre("Suspense", true).addCategories(expectedCategories))
+    ));
+    entityManager.clear();
+
+    final var statistics = entityManager.getEntityManagerFactory()
+        .unwrap(SessionFactory.class)
+        .getStatistics();
+    statistics.setStatisticsEnabled(true);
+    statistics.clear();
+
+    final var searchQuery = new SearchQuery(expectedPage, expectedPerPage, "", "name", "asc");
+
+    // when
+    final var actualPage = genreGateway.findAll(searchQuery);
+
+    // then
+    Assertions.assertEquals(expectedStatements, statistics.getPrepareStatementCount());
+    Assertions.assertEquals(5, actualPage.total());
+    actualPage.items().forEach(genre -> Assertions.assertEquals(expectedCategories, sorted(genre.getCategories())));
+  }
+
+  @Test
+  void givenAGenreWithManyCategories_whenCallsUpdateChangingTwo_thenShouldWriteOnlyThoseRows() {
+    // given
+    final var categories = categoryGateway.createAll(IntStream.range(0, 300)
+        .mapToObj(i -> Category.newCategory("Categoria " + i, null, true))
+        .toList());
+    final var removedCategory = categories.getFirst().getId();
+    final var addedCategory = categoryGateway.create(Category.newCategory("Nova", null, true)).getId();
+
+    final var genre = genreGateway.create(Genre.newGenre("Ação", true)
+        .addCategories(categories.stream().map(Category::getId).toList()));
+    entityManager.clear();
+
+    final var statistics = entityManager.getEntityManagerFactory()
+        .unwrap(SessionFactory.class)
+        .getStatistics();
+    statistics.setStatisticsEnabled(true);
+    statistics.clear();
+
+    // when
+    final var actualGenre = genreGateway.update(genreGateway.findById(genre.getId()).get()
+        .addCategory(addedCategory)
+        .removeCategory(removedCategory));
+
+    // then
+    final var rowStatistics = statistics.getEntityStatistics(GenreCategoryJpaEntity.class.getName());
+    Assertions.assertEquals(1, rowStatistics.getInsertCount());
+    Assertions.assertEquals(0, rowStatistics.getDeleteCount());
+    Assertions.assertEquals(300, actualGenre.getCategories().size());
+
+    final var persistedCategories = genreRepository.findCategoryIdsByGenreIds(List.of(genre.getId().getValue()));
+    Assertions.assertEquals(300, persistedCategories.size());
+    Assertions.assertTrue(persistedCategories.stream().anyMatch(it -> it.getCategoryId().equals(addedCategory.getValue())));
+    Assertions.assertTrue(persistedCategories.stream().noneMatch(it -> it.getCategoryId().equals(removedCategory.getValue())));
+  }
+
+  @Test
+  void givenAStaleGenre_whenCallsUpdate_thenShouldThrowConflictException() {
+    // given
+    final var genre = genreGateway.create(Genre.newGenre("Ação", true));
+    final var staleGenre = genreGateway.findById(genre.getId()).get();
+    genreGateway.update(genreGateway.findById(genre.getId()).get().update("Drama", true, List.of()));
+
+    // when
+    final var actualException = Assertions.assertThrows(ConflictException.class, () ->
+        genreGateway.update(staleGenre.update("Terror", true, List.of()))
+    );
+
+    // then
+    Assertions.assertEquals(
+        "Genre with id %s was modified by another request".formatted(genre.getId().getValue()),
+        actualException.getMessage()
+    );
+  }
+
+  @Test
+  void givenAnExpectedVersion_whenStoredGenreIsAtAnother_thenShouldThrowPreconditionFailed() {
+    // given
+    final var genre = genreGateway.create(Genre.newGenre("Ação", true));
+    genreGateway.update(genreGateway.findById(genre.getId()).get().update("Drama", true, List.of()));
+
+    // when
+    final var actualException = Assertions.assertThrows(PreconditionFailedException.class, () ->
+        genreGateway.update(genreGateway.findById(genre.getId()).get().update("Terror", true, List.of()), 0L)
+    );
+
+    // then
+    Assertions.assertEquals(
+        "Genre with id %s is not at the expected version".formatted(genre.getId().getValue()),
+        actualException.getMessage()
+    );
+  }
+
+  @Test
+  void givenAStaleCopy_whenExpectedVersionMatchesTheStoredGenre_thenShouldDiffAgainstStoredCategories() {
+    // given
+    final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+    final var series = categoryGateway.create(Category.newCategory("Séries", null, true));
+    final var docs = categoryGateway.create(Category.newCategory("Documentários", null, true));
+
+    final var genre = genreGateway.create(Genre.newGenre("Ação", true).addCategory(filmes.getId()));
+    final var staleGenre = genreGateway.findById(genre.getId()).get();
+    genreGateway.update(genreGateway.findById(genre.getId()).get()
+        .update("Ação", true, List.of(filmes.getId(), series.getId())));
+
+    // when
+    final var actualGenre = genreGateway.update(
+        staleGenre.update("Aventura", true, List.of(series.getId(), docs.getId())),
+        1L
+    );
+
+    // then
+    Assertions.assertEquals("Aventura", actualGenre.getName());
+    Assertions.assertEquals(2L, actualGenre.getVersion());
+
+    final var persistedCategories = genreRepository.findCategoryIdsByGenreIds(List.of(genre.getId().getValue())).stream()
+        .map(it -> CategoryID.from(it.getCategoryId()))
+        .toList();
+    Assertions.assertEquals(sorted(List.of(series.getId(), docs.getId())), sorted(persistedCategories));
+  }
+
   private List<CategoryID> sorted(final List<CategoryID> expectedCategories) {
     return expectedCategories.stream()
         .sorted(Comparator.comparing(CategoryID::getValue))
         .toList();
   }
 
+  private List<String> eventTypesOf(final GenreID id) {
+    return outboxRepository.findAll().stream()
+        .filter(event -> event.getAggregateId().equals(id.getValue()))
+        .sorted(Comparator.comparing(OutboxEventJpaEntity::getId))
+        .map(OutboxEventJpaEntity::getEventType)
+        .toList();
+  }
 }
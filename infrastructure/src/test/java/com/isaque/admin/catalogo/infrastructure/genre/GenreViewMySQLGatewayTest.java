@@ -0,0 +1,131 @@
+package com.isaque.admin.catalogo.infrastructure.genre;
+
+import com.isaque.admin.catalogo.MySQLGatewayTest;
+import com.isaque.admin.catalogo.domain.category.Category;
+import com.isaque.admin.catalogo.domain.genre.Genre;
+import com.isaque.admin.catalogo.domain.genre.GenreView;
+import com.isaque.admin.catalogo.domain.pagination.SearchQuery;
+import com.isaque.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
+import com.isaque.admin.catalogo.infrastructure.genre.persistence.GenreViewJpaEntity;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+@MySQLGatewayTest
+class GenreViewMySQLGatewayTest {
+  @Autowired
+  private CategoryMySQLGateway categoryGateway;
+
+  @Autowired
+  private GenreMySQLGateway genreGateway;
+
+  @Autowired
+  private GenreViewMySQLGateway genreViewGateway;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Test
+  void givenGenresWithCategories_whenCallsFindAll_thenShouldReturnCategoryNamesInOneQuery() {
+    // given
+    final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+    final var series = categoryGateway.create(Category.newCategory("Séries", null, true));
+    final var acao = genreGateway.create(Genre.newGenre("Ação", true).addCategories(List.of(filmes.getId(), series.getId())));
+    genreGateway.create(Genre.newGenre("Drama", true).addCategory(filmes.getId()));
+    entityManager.flush();
+    entityManager.clear();
+
+    final var statistics = entityManager.getEntityManagerFactory()
+        .unwrap(SessionFactory.class)
+        .getStatistics();
+    statistics.setStatisticsEnabled(true);
+    statistics.clear();
+
+    // when
+    final var actualPage = genreViewGateway.findAll(new SearchQuery(0, 10, "", "name", "asc"));
+
+    // then
+    Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+    Assertions.assertEquals(2, actualPage.total());
+
+    final var actualView = actualPage.items().getFirst();
+    Assertions.assertEquals(acao.getId(), actualView.id());
+    Assertions.assertEquals("Ação", actualView.name());
+    Assertions.assertEquals(
+        List.of(
+            new GenreView.CategoryRef(filmes.getId().getValue(), "Filmes"),
+            new GenreView.CategoryRef(series.getId().getValue(), "Séries")
+        ),
+        sorted(actualView.categories())
+    );
+    Assertions.assertEquals(
+        List.of(new GenreView.CategoryRef(filmes.getId().getValue(), "Filmes")),
+        actualPage.items().get(1).categories()
+    );
+  }
+
+  @Test
+  void givenAGenreView_whenGenreIsUpdated_thenShouldReprojectIt() {
+    // given
+    final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+    final var series = categoryGateway.create(Category.newCategory("Séries", null, true));
+    final var genre = genreGateway.create(Genre.newGenre("Ação", true).addCategories(List.of(filmes.getId(), series.getId())));
+
+    // when
+    genreGateway.update(genre.update("Aventura", false, List.of(series.getId())));
+
+    // then
+    final var actualView = genreViewGateway.findAll(new SearchQuery(0, 10, "", "name", "asc")).items().getFirst();
+    Assertions.assertEquals("Aventura", actualView.name());
+    Assertions.assertFalse(actualView.active());
+    Assertions.assertEquals(List.of(new GenreView.CategoryRef(series.getId().getValue(), "Séries")), actualView.categories());
+  }
+
+  @Test
+  void givenAGenreView_whenCategoryIsRenamedOrDeleted_thenShouldRewriteItsCategories() {
+    // given
+    final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+    final var series = categoryGateway.create(Category.newCategory("Séries", null, true));
+    final var acao = genreGateway.create(Genre.newGenre("Ação", true).addCategories(List.of(filmes.getId(), series.getId())));
+
+    // when
+    categoryGateway.update(filmes.update("Longas", null, true));
+    categoryGateway.deleteById(series.getId());
+
+    // then
+    final var actualView = genreViewGateway.findAll(new SearchQuery(0, 10, "", "name", "asc")).items().getFirst();
+    Assertions.assertEquals(List.of(new GenreView.CategoryRef(filmes.getId().getValue(), "Longas")), actualView.categories());
+    Assertions.assertTrue(actualView.updatedAt().isAfter(acao.getUpdatedAt()));
+  }
+
+  @Test
+  void givenAGenreView_whenCategoryIsUpdatedWithTheSameName_thenShouldNotLoadItsViews() {
+    // given
+    final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+    genreGateway.create(Genre.newGenre("Ação", true).addCategory(filmes.getId()));
+    entityManager.flush();
+    entityManager.clear();
+
+    final var statistics = entityManager.getEntityManagerFactory()
+        .unwrap(SessionFactory.class)
+        .getStatistics();
+    statistics.setStatisticsEnabled(true);
+    statistics.clear();
+
+    // when
+    categoryGateway.update(filmes.update("Filmes", "Longas-metragens", true));
+
+    // then
+    Assertions.assertEquals(0, statistics.getEntityStatistics(GenreViewJpaEntity.class.getName()).getLoadCount());
+  }
+
+  private List<GenreView.CategoryRef> sorted(final List<GenreView.CategoryRef> categories) {
+    return categories.stream()
+        .sorted((a, b) -> a.name().compareTo(b.name()))
+        .toList();
+  }
+}
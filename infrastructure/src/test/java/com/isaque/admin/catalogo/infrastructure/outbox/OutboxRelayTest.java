@@ -0,0 +1,76 @@
+package com.isaque.admin.catalogo.infrastructure.outbox;
+
+import com.isaque.admin.catalogo.MySQLGatewayTest;
+import com.isaque.admin.catalogo.domain.genre.Genre;
+import com.isaque.admin.catalogo.infrastructure.genre.GenreMySQLGateway;
+import com.isaque.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+@MySQLGatewayTest
+class OutboxRelayTest {
+  @Autowired
+  private GenreMySQLGateway genreGateway;
+  @Autowired
+  private OutboxEventRepository repository;
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private InMemoryOutboxPublisher publisher;
+  private OutboxRelay relay;
+
+  @BeforeEach
+  void setUp() {
+    publisher = new InMemoryOutboxPublisher(100);
+    relay = new OutboxRelay(repository, publisher, transactionManager, 2);
+  }
+
+  @Test
+  void givenPendingEvents_whenCallsDrain_thenShouldPublishInOrderAndDeleteThem() {
+    final var genre = genreGateway.create(Genre.newGenre("Ação", true));
+    genreGateway.update(genre.update("Drama", false, List.of()));
+    genreGateway.update(genreGateway.findById(genre.getId()).get().update("Terror", true, List.of()));
+    genreGateway.update(genreGateway.findById(genre.getId()).get().update("Comédia", true, List.of()));
+
+    Assertions.assertEquals(4, repository.count());
+
+    relay.drain();
+
+    final var actualMessages = publisher.published();
+    Assertions.assertEquals(0, repository.count());
+    Assertions.assertEquals(4, actualMessages.size());
+    Assertions.assertTrue(actualMessages.get(0).id() < actualMessages.get(1).id());
+    Assertions.assertTrue(actualMessages.get(1).id() < actualMessages.get(2).id());
+    Assertions.assertTrue(actualMessages.get(2).id() < actualMessages.get(3).id());
+    Assertions.assertEquals("GenreCreated", actualMessages.get(0).eventType());
+    Assertions.assertEquals("GenreUpdated", actualMessages.get(1).eventType());
+    Assertions.assertEquals(genre.getId().getValue(), actualMessages.get(1).aggregateId());
+    Assertions.assertTrue(actualMessages.get(0).payload().contains("\"name\":\"Ação\""));
+    Assertions.assertTrue(actualMessages.get(1).payload().contains("\"name\":\"Drama\""));
+    Assertions.assertTrue(actualMessages.get(3).payload().contains("\"name\":\"Comédia\""));
+  }
+
+  @Test
+  void givenAFailingPublisher_whenCallsRelay_thenShouldKeepTheEvents() {
+    final var genre = genreGateway.create(Genre.newGenre("Ação", true));
+    genreGateway.update(genre.update("Drama", false, List.of()));
+    final var failingRelay = new OutboxRelay(repository, messages -> {
+      throw new IllegalStateException("broker is down");
+    }, transactionManager, 2);
+
+    Assertions.assertThrows(IllegalStateException.class, failingRelay::relay);
+
+    Assertions.assertEquals(2, repository.count());
+  }
+
+  @Test
+  void givenAnEmptyOutbox_whenCallsRelay_thenShouldPublishNothing() {
+    Assertions.assertEquals(0, relay.relay());
+    Assertions.assertTrue(publisher.published().isEmpty());
+  }
+}
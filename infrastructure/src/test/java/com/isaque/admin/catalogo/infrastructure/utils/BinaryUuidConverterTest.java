@@ -0,0 +1,41 @@
+package com.isaque.admin.catalogo.infrastructure.utils;
+
+import com.isaque.admin.catalogo.domain.category.CategoryID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+class BinaryUuidConverterTest {
+  private final BinaryUuidConverter converter = new BinaryUuidConverter();
+
+  @Test
+  void givenAUuid_whenConvertsBothWays_thenShouldKeepTheSameId() {
+    final var expectedId = CategoryID.unique().getValue();
+
+    final var actualBytes = converter.convertToDatabaseColumn(expectedId);
+
+    Assertions.assertEquals(16, actualBytes.length);
+    Assertions.assertEquals(expectedId, converter.convertToEntityAttribute(actualBytes));
+  }
+
+  @Test
+  void givenTwoUuids_whenConverts_thenBytesShouldSortLikeTheStrings() {
+    final var first = "0190a1b2-0000-7000-8000-000000000001";
+    final var second = "0190a1b2-0001-7000-8000-000000000000";
+
+    final var actualComparison = Arrays.compareUnsigned(
+        converter.convertToDatabaseColumn(first),
+        converter.convertToDatabaseColumn(second)
+    );
+
+    Assertions.assertTrue(actualComparison < 0);
+  }
+
+  @Test
+  void givenAnInvalidId_whenConverts_thenShouldThrowIllegalArgument() {
+    Assertions.assertFalse(BinaryUuidConverter.isValid("123"));
+    Assertions.assertFalse(BinaryUuidConverter.isValid("1-1-1-1-1"));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> converter.convertToDatabaseColumn("123"));
+  }
+}
@@ -0,0 +1,84 @@
+package com.isaque.admin.catalogo.infrastructure.utils;
+
+import com.isaque.admin.catalogo.domain.exceptions.PreconditionFailedException;
+import com.isaque.admin.catalogo.domain.pagination.Pagination;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Function;
+
+class ETagsTest {
+  private static final Instant NOW = Instant.parse("2026-01-01T10:00:00.123456Z");
+
+  @Test
+  void givenAnAggregate_whenItChanges_thenShouldChangeTheStrongTag() {
+    final var actual = ETags.of("123", 1L, NOW);
+
+    Assertions.assertTrue(actual.startsWith("\"123-1-") && actual.endsWith("\""));
+    Assertions.assertEquals(actual, ETags.of("123", 1L, NOW));
+    Assertions.assertNotEquals(actual, ETags.of("123", 2L, NOW));
+    Assertions.assertNotEquals(actual, ETags.of("123", 1L, NOW.plusNanos(1000)));
+    Assertions.assertNotEquals(actual, ETags.of("456", 1L, NOW));
+  }
+
+  @Test
+  void givenAStrongTag_whenCallsVersionOf_thenShouldReturnItsVersion() {
+    final var id = "0191c3c0-1d2e-7a4b-9c8d-0123456789ab";
+
+    Assertions.assertEquals(7L, ETags.versionOf(ETags.of(id, 7L, NOW), id));
+    Assertions.assertNull(ETags.versionOf(null, id));
+    Assertions.assertNull(ETags.versionOf("*", id));
+  }
+
+  @Test
+  void givenATagOfAnotherResource_whenCallsVersionOf_thenShouldFailThePrecondition() {
+    final var id = "0191c3c0-1d2e-7a4b-9c8d-0123456789ab";
+    final var expectedErrorMessage = "'If-Match' is not an ETag of " + id;
+
+    final var actualException = Assertions.assertThrows(
+        PreconditionFailedException.class,
+        () -> ETags.versionOf(ETags.of("456", 7L, NOW), id)
+    );
+    Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+
+    Assertions.assertThrows(PreconditionFailedException.class, () -> ETags.versionOf("W/\"" + id + "-7-0.0\"", id));
+  }
+
+  @Test
+  void givenAHeaderThatIsNotATag_whenCallsVersionOf_thenShouldReceiveInvalidETag() {
+    final var id = "0191c3c0-1d2e-7a4b-9c8d-0123456789ab";
+    final var expectedErrorMessage = "'If-Match' is not an entity tag";
+
+    final var actualException = Assertions.assertThrows(
+        InvalidETagException.class,
+        () -> ETags.versionOf(id + "-7", id)
+    );
+    Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+
+    Assertions.assertThrows(InvalidETagException.class, () -> ETags.versionOf("\"", id));
+    Assertions.assertThrows(InvalidETagException.class, () -> ETags.versionOf("W/" + id, id));
+  }
+
+  @Test
+  void givenAPage_whenAnItemIsUpdated_thenShouldChangeTheWeakTag() {
+    final var actual = ETags.of(page(NOW, NOW.minusSeconds(60)), Function.identity());
+
+    Assertions.assertTrue(actual.startsWith("W/\"2-2-"));
+    Assertions.assertEquals(actual, ETags.of(page(NOW.minusSeconds(60), NOW), Function.identity()));
+    Assertions.assertNotEquals(actual, ETags.of(page(NOW.plusSeconds(1), NOW.minusSeconds(60)), Function.identity()));
+  }
+
+  @Test
+  void givenAPage_whenAnItemIsRemoved_thenShouldChangeTheWeakTag() {
+    final var actual = ETags.of(page(NOW, NOW.minusSeconds(60)), Function.identity());
+
+    Assertions.assertNotEquals(actual, ETags.of(page(NOW), Function.identity()));
+    Assertions.assertEquals("W/\"0-0-0.0\"", ETags.of(page(), Function.identity()));
+  }
+
+  private static Pagination<Instant> page(final Instant... updatedAt) {
+    return new Pagination<>(0, 10, updatedAt.length, List.of(updatedAt));
+  }
+}
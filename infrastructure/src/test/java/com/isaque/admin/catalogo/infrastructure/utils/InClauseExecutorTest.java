@@ -0,0 +1,88 @@
+package com.isaque.admin.catalogo.infrastructure.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+class InClauseExecutorTest {
+  private final AtomicInteger transactions = new AtomicInteger();
+
+  private final TransactionOperations countingTransaction = new TransactionOperations() {
+    @Override
+    public <T> T execute(final TransactionCallback<T> action) {
+      transactions.incrementAndGet();
+      return action.doInTransaction(null);
+    }
+  };
+
+  @Test
+  void givenAChunkSize_whenCreates_thenShouldRoundItDownToAPowerOfTwo() {
+    Assertions.assertEquals(512, new InClauseExecutor(1000, 1, countingTransaction).chunkSize());
+    Assertions.assertEquals(1024, new InClauseExecutor(1024, 1, countingTransaction).chunkSize());
+  }
+
+  @Test
+  void givenMoreIdsThanAChunk_whenExecutesSequentially_thenShouldQueryEachChunkInOrder() {
+    final var executor = new InClauseExecutor(4, 1, countingTransaction);
+    final var ids = IntStream.range(0, 10).boxed().toList();
+    final var chunkSizes = new ArrayList<Integer>();
+
+    final var actual = executor.execute(ids, chunk -> {
+      chunkSizes.add(chunk.size());
+      return chunk;
+    });
+
+    Assertions.assertEquals(ids, actual);
+    Assertions.assertEquals(List.of(4, 4, 2), chunkSizes);
+    Assertions.assertEquals(0, transactions.get());
+  }
+
+  @Test
+  void givenParallelism_whenExecutesOutsideATransaction_thenShouldRunOneTransactionPerGroup() {
+    final var executor = new InClauseExecutor(4, 2, countingTransaction);
+    final var ids = IntStream.range(0, 20).boxed().toList();
+    final var chunks = Collections.synchronizedList(new ArrayList<List<Integer>>());
+
+    final var actual = executor.execute(ids, chunk -> {
+      chunks.add(chunk);
+      return chunk;
+    });
+
+    Assertions.assertEquals(ids, actual);
+    Assertions.assertEquals(5, chunks.size());
+    Assertions.assertEquals(2, transactions.get());
+  }
+
+  @Test
+  void givenAFailingChunk_whenExecutesInParallel_thenShouldRethrowItsException() {
+    final var executor = new InClauseExecutor(2, 4, countingTransaction);
+    final var ids = IntStream.range(0, 8).boxed().toList();
+
+    final var actual = Assertions.assertThrows(IllegalStateException.class, () ->
+        executor.execute(ids, chunk -> {
+          if (chunk.contains(5)) {
+            throw new IllegalStateException("connection lost");
+          }
+          return chunk;
+        })
+    );
+
+    Assertions.assertEquals("connection lost", actual.getMessage());
+  }
+
+  @Test
+  void givenNoIds_whenExecutes_thenShouldNotQuery() {
+    final var executor = new InClauseExecutor(4, 2, countingTransaction);
+
+    Assertions.assertEquals(List.of(), executor.execute(List.<Integer>of(), chunk -> {
+      throw new AssertionError("should not query");
+    }));
+  }
+}
@@ -0,0 +1,81 @@
+package com.isaque.admin.catalogo.infrastructure.utils;
+
+import com.isaque.admin.catalogo.MySQLGatewayTest;
+import com.isaque.admin.catalogo.domain.category.Category;
+import com.isaque.admin.catalogo.domain.category.CategorySortField;
+import com.isaque.admin.catalogo.domain.pagination.SearchQuery;
+import com.isaque.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.isaque.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+@MySQLGatewayTest
+class PaginationUtilsTest {
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private CategoryRepository repository;
+
+  @Test
+  void givenAFilterThatOrdersRows_whenCallsFindAll_thenShouldNotEmitCursors() {
+    // given
+    repository.saveAll(List.of(
+        CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+        CategoryJpaEntity.from(Category.newCategory("Séries", null, true)),
+        CategoryJpaEntity.from(Category.newCategory("Documentarios", null, true))
+    ));
+
+    // ordered ahead of the keyset, as a ranked full-text search orders by relevance
+    final Specification<CategoryJpaEntity> ranked = (root, query, cb) -> {
+      if (!Long.class.equals(query.getResultType())) {
+        query.orderBy(cb.desc(root.get("description")));
+      }
+      return null;
+    };
+
+    // when
+    final var actualResult = PaginationUtils.findAll(
+        entityManager,
+        CategoryJpaEntity.class,
+        ranked,
+        new SearchQuery(0, 1, "", "name", "asc"),
+        CategorySortField.values()
+    );
+
+    // then
+    Assertions.assertEquals(1, actualResult.items().size());
+    Assertions.assertTrue(actualResult.hasNext());
+    Assertions.assertNull(actualResult.nextCursor());
+    Assertions.assertNull(actualResult.previousCursor());
+  }
+
+  @Test
+  void givenAFilterThatDoesNotOrderRows_whenCallsFindAll_thenShouldEmitANextCursor() {
+    // given
+    repository.saveAll(List.of(
+        CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+        CategoryJpaEntity.from(Category.newCategory("Séries", null, true))
+    ));
+
+    final Specification<CategoryJpaEntity> active = (root, query, cb) -> cb.isTrue(root.get("active"));
+
+    // when
+    final var actualResult = PaginationUtils.findAll(
+        entityManager,
+        CategoryJpaEntity.class,
+        active,
+        new SearchQuery(0, 1, "", "name", "asc"),
+        CategorySortField.values()
+    );
+
+    // then
+    Assertions.assertTrue(actualResult.hasNext());
+    Assertions.assertNotNull(actualResult.nextCursor());
+  }
+}
@@ -0,0 +1,79 @@
+// Carga nos endpoints de categorias para comparar o pool fixo do Undertow com virtual threads.
+//
+//   k6 run -e BASE_URL=http://localhost:8080/api -e MODE=platform load-tests/categories.js
+//   k6 run -e BASE_URL=http://localhost:8080/api -e MODE=virtual load-tests/categories.js
+//
+// Rode uma vez com spring.threads.virtual.enabled=false (MODE=platform) e outra com true
+// (MODE=virtual), com o mesmo banco e a mesma massa. Cada execução grava p95/p99 de
+// http_req_duration, http_reqs/s e a taxa de http_req_failed em load-tests/results/<MODE>.json;
+// esses dois arquivos são o resultado a versionar.
+// Ainda não há resultados registrados: o modo virtual threads segue desligado até essa comparação.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080/api';
+const MODE = __ENV.MODE || 'platform';
+const HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+export const options = {
+  scenarios: {
+    burst: {
+      executor: 'ramping-arrival-rate',
+      startRate: 50,
+      timeUnit: '1s',
+      preAllocatedVUs: 200,
+      maxVUs: 2000,
+      stages: [
+        { target: 200, duration: '30s' },
+        { target: 1500, duration: '15s' },
+        { target: 200, duration: '30s' },
+      ],
+    },
+  },
+  summaryTrendStats: ['avg', 'p(95)', 'p(99)', 'max'],
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+  },
+};
+
+export function setup() {
+  const ids = [];
+  for (let i = 0; i < 100; i++) {
+    const body = JSON.stringify({ name: `Categoria ${i}`, description: 'carga', is_active: true });
+    const res = http.post(`${BASE_URL}/categories`, body, HEADERS);
+    ids.push(res.json('id'));
+  }
+  return { ids };
+}
+
+export default function (data) {
+  const roll = Math.random();
+
+  if (roll < 0.6) {
+    const res = http.get(`${BASE_URL}/categories?perPage=10&sort=name&dir=asc`);
+    check(res, { 'list 200': (r) => r.status === 200 });
+  } else if (roll < 0.9) {
+    const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+    const res = http.get(`${BASE_URL}/categories/${id}`, HEADERS);
+    check(res, { 'get 200': (r) => r.status === 200 });
+  } else {
+    const body = JSON.stringify({ name: `Carga ${__VU}-${__ITER}`, description: null, is_active: true });
+    const res = http.post(`${BASE_URL}/categories`, body, HEADERS);
+    check(res, { 'create 201': (r) => r.status === 201 });
+  }
+}
+
+export function handleSummary(data) {
+  const duration = data.metrics.http_req_duration.values;
+  const result = {
+    mode: MODE,
+    p95_ms: duration['p(95)'],
+    p99_ms: duration['p(99)'],
+    req_per_s: data.metrics.http_reqs.values.rate,
+    error_rate: data.metrics.http_req_failed.values.rate,
+  };
+  return {
+    stdout: `${JSON.stringify(result, null, 2)}\n`,
+    [`load-tests/results/${MODE}.json`]: JSON.stringify(result, null, 2),
+  };
+}